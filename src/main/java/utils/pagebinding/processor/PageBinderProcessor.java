@@ -0,0 +1,405 @@
+package utils.pagebinding.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@SupportedAnnotationTypes("*")
+public class PageBinderProcessor extends AbstractProcessor {
+
+    private static final String ANDROID_FIND_BY = "io.appium.java_client.pagefactory.AndroidFindBy";
+    private static final String CACHE_LOOKUP = "org.openqa.selenium.support.CacheLookup";
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+    private static final String REGISTRY_PACKAGE = "utils.pagebinding";
+    private static final String REGISTRY_CLASS = "GeneratedPageBinders";
+    private static final String BINDER_SUFFIX = "_PageBinder";
+    private static final Set<String> UNSUPPORTED_ANNOTATIONS = Set.of(
+            "io.appium.java_client.pagefactory.AndroidFindBys",
+            "io.appium.java_client.pagefactory.AndroidFindAll",
+            "io.appium.java_client.pagefactory.AndroidBy",
+            "io.appium.java_client.pagefactory.AndroidFindBySet",
+            "org.openqa.selenium.support.FindBy",
+            "org.openqa.selenium.support.FindBys",
+            "org.openqa.selenium.support.FindAll");
+    private static final Map<String, String> STRATEGIES = new LinkedHashMap<>();
+
+    static {
+        STRATEGIES.put("xpath", "io.appium.java_client.AppiumBy.xpath");
+        STRATEGIES.put("id", "io.appium.java_client.AppiumBy.id");
+        STRATEGIES.put("accessibility", "io.appium.java_client.AppiumBy.accessibilityId");
+        STRATEGIES.put("uiAutomator", "io.appium.java_client.AppiumBy.androidUIAutomator");
+        STRATEGIES.put("className", "io.appium.java_client.AppiumBy.className");
+        STRATEGIES.put("tagName", "org.openqa.selenium.By.tagName");
+        STRATEGIES.put("androidDataMatcher", "io.appium.java_client.AppiumBy.androidDataMatcher");
+        STRATEGIES.put("androidViewMatcher", "io.appium.java_client.AppiumBy.androidViewMatcher");
+    }
+
+    private final Map<String, TypeElement> boundPages = new LinkedHashMap<>();
+    private boolean registryWritten;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (registryWritten || roundEnv.processingOver()) {
+            return false;
+        }
+
+        List<TypeElement> types = new ArrayList<>();
+        for (Element rootElement : roundEnv.getRootElements()) {
+            collectTypes(rootElement, types);
+        }
+
+        Map<TypeElement, List<LocatorField>> pages = new LinkedHashMap<>();
+        for (TypeElement type : types) {
+            List<LocatorField> fields = readLocatorFields(type);
+            if (fields != null) {
+                pages.put(type, fields);
+            }
+        }
+
+        for (Map.Entry<TypeElement, List<LocatorField>> page : pages.entrySet()) {
+            TypeElement parentPage = findBoundSuperclass(page.getKey(), pages);
+            if ((!page.getValue().isEmpty() || parentPage != null) && isBindable(page.getKey(), pages)) {
+                writeBinder(page.getKey(), page.getValue(), parentPage);
+                boundPages.put(page.getKey().getQualifiedName().toString(), page.getKey());
+            }
+        }
+
+        if (!types.isEmpty()) {
+            writeRegistry();
+            registryWritten = true;
+        }
+        return false;
+    }
+
+    private void collectTypes(Element element, List<TypeElement> types) {
+        if (element.getKind() == ElementKind.CLASS) {
+            types.add((TypeElement) element);
+        }
+        for (Element enclosed : element.getEnclosedElements()) {
+            if (enclosed.getKind() == ElementKind.CLASS) {
+                collectTypes(enclosed, types);
+            }
+        }
+    }
+
+    private List<LocatorField> readLocatorFields(TypeElement type) {
+        List<LocatorField> fields = new ArrayList<>();
+        boolean supported = true;
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            AnnotationMirror findBy = null;
+            boolean cacheLookup = false;
+            for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+                String annotationName = annotationName(annotation);
+                if (annotationName.equals(ANDROID_FIND_BY)) {
+                    findBy = annotation;
+                } else if (annotationName.equals(CACHE_LOOKUP)) {
+                    cacheLookup = true;
+                } else if (UNSUPPORTED_ANNOTATIONS.contains(annotationName)) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                            "@" + annotation.getAnnotationType().asElement().getSimpleName()
+                                    + " is not supported by generated page binders. " + type.getSimpleName() + " will use PageFactory.", field);
+                    supported = false;
+                }
+            }
+            if (findBy == null) {
+                continue;
+            }
+            LocatorField locatorField = validate(type, field, findBy, cacheLookup);
+            if (locatorField == null) {
+                supported = false;
+            } else {
+                fields.add(locatorField);
+            }
+        }
+        if (!supported) {
+            return null;
+        }
+        return fields;
+    }
+
+    private LocatorField validate(TypeElement type, VariableElement field, AnnotationMirror findBy, boolean cacheLookup) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+            error(field, "@AndroidFindBy field '" + field.getSimpleName() + "' in " + type.getSimpleName()
+                    + " must be a non-private, non-static, non-final instance field so the generated binder can assign it.");
+            return null;
+        }
+
+        boolean list;
+        if (isWebElement(field.asType())) {
+            list = false;
+        } else if (isWebElementList(field.asType())) {
+            list = true;
+        } else {
+            error(field, "@AndroidFindBy field '" + field.getSimpleName() + "' must be a WebElement or List<WebElement>, found " + field.asType() + ".");
+            return null;
+        }
+
+        String strategy = null;
+        String value = null;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> attribute : findBy.getElementValues().entrySet()) {
+            String attributeName = attribute.getKey().getSimpleName().toString();
+            if (attributeName.equals("priority")) {
+                continue;
+            }
+            String attributeValue = String.valueOf(attribute.getValue().getValue());
+            if (attributeValue.isBlank()) {
+                continue;
+            }
+            if (strategy != null) {
+                error(field, "@AndroidFindBy on '" + field.getSimpleName() + "' declares both '" + strategy + "' and '" + attributeName
+                        + "'. Use exactly one locator strategy.");
+                return null;
+            }
+            if (!STRATEGIES.containsKey(attributeName)) {
+                error(field, "@AndroidFindBy strategy '" + attributeName + "' is not supported by generated page binders.");
+                return null;
+            }
+            strategy = attributeName;
+            value = attributeValue;
+        }
+        if (strategy == null) {
+            error(field, "@AndroidFindBy on '" + field.getSimpleName() + "' does not declare a locator.");
+            return null;
+        }
+
+        String locatorError = checkLocator(strategy, value);
+        if (locatorError != null) {
+            error(field, "Invalid " + strategy + " locator on '" + field.getSimpleName() + "' (" + value + "): " + locatorError);
+            return null;
+        }
+        return new LocatorField(field.getSimpleName().toString(), strategy, value, list, cacheLookup);
+    }
+
+    private static String checkLocator(String strategy, String value) {
+        if (strategy.equals("xpath")) {
+            try {
+                XPathFactory.newInstance().newXPath().compile(value);
+            } catch (XPathExpressionException e) {
+                return e.getCause() != null ? e.getCause().getMessage() : String.valueOf(e.getMessage());
+            }
+        } else if (strategy.equals("uiAutomator")) {
+            int depth = 0;
+            boolean quoted = false;
+            for (int index = 0; index < value.length(); index++) {
+                char character = value.charAt(index);
+                if (character == '"' && (index == 0 || value.charAt(index - 1) != '\\')) {
+                    quoted = !quoted;
+                } else if (!quoted && character == '(') {
+                    depth++;
+                } else if (!quoted && character == ')' && --depth < 0) {
+                    return "unbalanced parentheses";
+                }
+            }
+            if (quoted) {
+                return "unterminated string literal";
+            }
+            if (depth != 0) {
+                return "unbalanced parentheses";
+            }
+        }
+        return null;
+    }
+
+    private TypeElement findBoundSuperclass(TypeElement type, Map<TypeElement, List<LocatorField>> pages) {
+        TypeMirror superclass = type.getSuperclass();
+        while (superclass.getKind() == TypeKind.DECLARED) {
+            TypeElement superType = (TypeElement) ((DeclaredType) superclass).asElement();
+            List<LocatorField> superFields = pages.get(superType);
+            if (superFields != null && (!superFields.isEmpty() || findBoundSuperclass(superType, pages) != null)) {
+                return superType;
+            }
+            superclass = superType.getSuperclass();
+        }
+        return null;
+    }
+
+    private boolean isBindable(TypeElement type, Map<TypeElement, List<LocatorField>> pages) {
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        TypeMirror superclass = type.getSuperclass();
+        while (superclass.getKind() == TypeKind.DECLARED) {
+            TypeElement superType = (TypeElement) ((DeclaredType) superclass).asElement();
+            if (!pages.containsKey(superType) && hasLocatorFields(superType)) {
+                return false;
+            }
+            if (pages.containsKey(superType) && !isBindable(superType, pages)) {
+                return false;
+            }
+            superclass = superType.getSuperclass();
+        }
+        return true;
+    }
+
+    private static boolean hasLocatorFields(TypeElement type) {
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            for (AnnotationMirror annotation : field.getAnnotationMirrors()) {
+                String annotationName = annotationName(annotation);
+                if (annotationName.equals(ANDROID_FIND_BY) || UNSUPPORTED_ANNOTATIONS.contains(annotationName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isWebElement(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(WEB_ELEMENT);
+    }
+
+    private boolean isWebElementList(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        DeclaredType declaredType = (DeclaredType) type;
+        return ((TypeElement) declaredType.asElement()).getQualifiedName().contentEquals("java.util.List")
+                && declaredType.getTypeArguments().size() == 1
+                && isWebElement(declaredType.getTypeArguments().get(0));
+    }
+
+    private void writeBinder(TypeElement page, List<LocatorField> fields, TypeElement parentPage) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+        String binderName = binderName(page);
+        String pageName = page.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@javax.annotation.processing.Generated(\"").append(PageBinderProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(binderName).append(" implements utils.pagebinding.PageBinder<").append(pageName).append("> {\n\n")
+                .append("    @Override\n")
+                .append("    public void bind(").append(pageName).append(" page, org.openqa.selenium.SearchContext context, java.time.Duration timeout) {\n")
+                .append("        bindFields(page, context, timeout);\n")
+                .append("    }\n\n")
+                .append("    public static void bindFields(").append(pageName).append(" page, org.openqa.selenium.SearchContext context, java.time.Duration timeout) {\n");
+        if (parentPage != null) {
+            source.append("        ").append(binderClassName(parentPage)).append(".bindFields(page, context, timeout);\n");
+        }
+        for (LocatorField field : fields) {
+            String locator = STRATEGIES.get(field.strategy) + "(" + javaString(field.value) + ")";
+            source.append("        page.").append(field.name).append(" = ");
+            if (field.list) {
+                source.append("new utils.pagebinding.LazyElementList(context, ").append(locator).append(", ").append(field.cacheLookup).append(");\n");
+            } else {
+                source.append("new utils.pagebinding.LazyElement(context, ").append(locator).append(", timeout, ").append(field.cacheLookup).append(");\n");
+            }
+        }
+        source.append("    }\n}\n");
+
+        writeSource(packageName.isEmpty() ? binderName : packageName + "." + binderName, source.toString(), page);
+    }
+
+    private void writeRegistry() {
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(REGISTRY_PACKAGE).append(";\n\n")
+                .append("@javax.annotation.processing.Generated(\"").append(PageBinderProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(REGISTRY_CLASS).append(" {\n\n")
+                .append("    private static final java.util.Map<Class<?>, PageBinder<?>> BINDERS = java.util.Map.ofEntries(");
+        String separator = "\n";
+        for (TypeElement page : boundPages.values()) {
+            source.append(separator).append("            java.util.Map.entry(").append(page.getQualifiedName()).append(".class, new ")
+                    .append(binderClassName(page)).append("())");
+            separator = ",\n";
+        }
+        source.append(");\n\n")
+                .append("    private ").append(REGISTRY_CLASS).append("() {\n    }\n\n")
+                .append("    public static PageBinder<?> get(Class<?> pageClass) {\n")
+                .append("        return BINDERS.get(pageClass);\n")
+                .append("    }\n}\n");
+        writeSource(REGISTRY_PACKAGE + "." + REGISTRY_CLASS, source.toString(), boundPages.values().toArray(new Element[0]));
+    }
+
+    private void writeSource(String className, String source, Element... originatingElements) {
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(className, originatingElements);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate " + className + ": " + e.getMessage());
+        }
+    }
+
+    private String binderName(TypeElement page) {
+        String qualifiedName = page.getQualifiedName().toString();
+        String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+        String nestedName = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+        return nestedName.replace('.', '_') + BINDER_SUFFIX;
+    }
+
+    private String binderClassName(TypeElement page) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+        return packageName.isEmpty() ? binderName(page) : packageName + "." + binderName(page);
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static String annotationName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static String javaString(String value) {
+        StringBuilder escaped = new StringBuilder("\"");
+        for (char character : value.toCharArray()) {
+            switch (character) {
+                case '"' -> escaped.append("\\\"");
+                case '\\' -> escaped.append("\\\\");
+                case '\n' -> escaped.append("\\n");
+                case '\r' -> escaped.append("\\r");
+                case '\t' -> escaped.append("\\t");
+                default -> escaped.append(character);
+            }
+        }
+        return escaped.append('"').toString();
+    }
+
+    private static class LocatorField {
+        private final String name;
+        private final String strategy;
+        private final String value;
+        private final boolean list;
+        private final boolean cacheLookup;
+
+        private LocatorField(String name, String strategy, String value, boolean list, boolean cacheLookup) {
+            this.name = name;
+            this.strategy = strategy;
+            this.value = value;
+            this.list = list;
+            this.cacheLookup = cacheLookup;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package constants.login;
+
+public interface LoginData {
+
+    String CREDENTIALS_TABLE = "data/login/credentials.csv";
+    String USERNAME_COLUMN = "username";
+    String PASSWORD_COLUMN = "password";
+
+}
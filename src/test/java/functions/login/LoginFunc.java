@@ -1,25 +1,35 @@
 package functions.login;
 
+import constants.login.LoginData;
 import constants.login.MessagesAndTitlesLogin;
 import io.appium.java_client.android.AndroidDriver;
 import pages.ValidationHelper;
 import pages.login.LoginPage;
+import utils.data.DataRowRunner;
 
 public class LoginFunc {
 
-    private final AndroidDriver driver;
+    private final ValidationHelper validationHelper;
+    private final LoginPage loginPage;
 
     public LoginFunc(AndroidDriver driver) {
-        this.driver = driver;
+        this.validationHelper = new ValidationHelper(driver);
+        this.loginPage = new LoginPage(driver);
     }
 
     public void validatesAccessSuccessfully(String username, String password) {
 
-        new ValidationHelper(driver)
+        validationHelper
                 .assertTextsPresent(MessagesAndTitlesLogin.LOGIN_PAGE);
-        new LoginPage(driver)
+        loginPage
                 .insertCredentials(username, password)
                 .clickLoginButton();
     }
 
+    public void validatesAccessForEachRow(String dataTablePath) {
+        DataRowRunner.run(dataTablePath, LoginData.USERNAME_COLUMN, row -> validatesAccessSuccessfully(
+                row.get(LoginData.USERNAME_COLUMN),
+                row.get(LoginData.PASSWORD_COLUMN)));
+    }
+
 }
@@ -8,68 +8,141 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.OutputType;
-import utils.report.PdfReporter;
+import utils.evidence.EvidenceRecorder;
+import utils.evidence.ScreenshotCapturer;
+import utils.profiling.PageActionEvent;
+import utils.profiling.ScreenshotCaptureEvent;
+import utils.report.TestReporter;
 import utils.DriverManager;
+import utils.pagebinding.PageBinders;
 
 import java.time.Duration;
+import java.util.function.Supplier;
 
 public class BasePage {
 
+    private static final Duration ELEMENT_LOOKUP_TIMEOUT = Duration.ofSeconds(10);
+
     protected AndroidDriver driver;
     protected WebDriverWait wait;
-    protected PdfReporter pdfReporter;
+    protected TestReporter reporter;
+    protected EvidenceRecorder evidenceRecorder;
 
     public BasePage(AndroidDriver driver) {
         this.driver = driver;
-        PageFactory.initElements(new AppiumFieldDecorator(driver, Duration.ofSeconds(10)), this);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-        this.pdfReporter = DriverManager.getPdfReporter();
+        if (!PageBinders.bind(this, driver, ELEMENT_LOOKUP_TIMEOUT)) {
+            PageFactory.initElements(new AppiumFieldDecorator(driver, ELEMENT_LOOKUP_TIMEOUT), this);
+        }
+        this.wait = new WebDriverWait(driver, ELEMENT_LOOKUP_TIMEOUT);
+        this.reporter = DriverManager.getReporter();
+        this.evidenceRecorder = DriverManager.getEvidenceRecorder();
     }
 
     public WebElement waitForElementVisibility(WebElement element) {
+        forgetEvidence();
         return wait.until(ExpectedConditions.visibilityOf(element));
     }
 
     public void enterText(WebElement element, String text, String errorMessage) {
+        PageActionEvent event = new PageActionEvent(getClass().getSimpleName(), "enterText", errorMessage);
+        event.begin();
         try {
             WebElement visibleElement = waitForElementVisibility(element);
+            forgetEvidence();
             visibleElement.sendKeys(text);
+            event.success = true;
         } catch (TimeoutException e) {
             System.err.println("Timeout Error: " + errorMessage + " - " + e.getMessage());
             throw new RuntimeException(errorMessage, e);
         } catch (Exception e) {
             System.err.println("Error sending text: " + errorMessage + " - " + e.getMessage());
             throw new RuntimeException(errorMessage, e);
+        } finally {
+            event.commit();
         }
     }
 
     public void clickElement(WebElement element, String errorMessage) {
+        PageActionEvent event = new PageActionEvent(getClass().getSimpleName(), "clickElement", errorMessage);
+        event.begin();
         try {
             WebElement clickableElement = wait.until(ExpectedConditions.elementToBeClickable(element));
+            forgetEvidence();
             clickableElement.click();
+            event.success = true;
         } catch (TimeoutException e) {
             System.err.println("Timeout Error: " + errorMessage + " - " + e.getMessage());
             throw new RuntimeException(errorMessage, e);
         } catch (Exception e) {
             System.err.println("Error clicking: " + errorMessage + " - " + e.getMessage());
             throw new RuntimeException(errorMessage, e);
+        } finally {
+            event.commit();
         }
     }
 
     public void saveEvidence(String name) {
+        saveEvidence(name, () -> rememberEvidence(takeScreenshot(name)));
+    }
+
+    public void saveEvidence(String name, WebElement region) {
+        saveEvidence(name, () -> takeElementScreenshot(name, region));
+    }
+
+    protected byte[] getCurrentScreenshot() {
+        byte[] lastEvidenceScreenshot = evidenceRecorder != null ? evidenceRecorder.getLastScreenshot(driver) : null;
+        if (lastEvidenceScreenshot != null) {
+            return lastEvidenceScreenshot;
+        }
+        return rememberEvidence(takeScreenshot("Visual check"));
+    }
+
+    private byte[] rememberEvidence(byte[] screenshotBytes) {
+        return evidenceRecorder != null ? evidenceRecorder.rememberScreenshot(driver, screenshotBytes) : screenshotBytes;
+    }
+
+    private void forgetEvidence() {
+        if (evidenceRecorder != null) {
+            evidenceRecorder.forgetLastScreenshot(driver);
+        }
+    }
+
+    private void saveEvidence(String name, Supplier<byte[]> screenshotSupplier) {
         if (driver == null) {
             System.err.println("Driver is null. Cannot capture screenshot for evidence.");
             return;
         }
-        if (pdfReporter == null) {
-            System.err.println("PdfReporter is null. Cannot save evidence to PDF. Ensure PdfReporter is initialized in HooksManager.");
+        if (reporter == null) {
+            System.err.println("TestReporter is null. Cannot save evidence to the report. Ensure the reporter is initialized in HooksManager.");
             return;
         }
+        reporter.getReportData().markStep(name);
         try {
-            byte[] screenshotBytes = driver.getScreenshotAs(OutputType.BYTES);
-            pdfReporter.addScreenshot(screenshotBytes, name);
+            if (evidenceRecorder == null) {
+                reporter.addScreenshot(screenshotSupplier.get(), name);
+            } else {
+                evidenceRecorder.capture(name, screenshotSupplier);
+            }
         } catch (Exception e) {
             System.err.println("Error capturing screenshot for evidence: " + e.getMessage());
         }
     }
+
+    private byte[] takeScreenshot(String name) {
+        ScreenshotCaptureEvent event = new ScreenshotCaptureEvent(name);
+        event.begin();
+        byte[] screenshotBytes = ScreenshotCapturer.capture(driver);
+        event.screenshotSize = screenshotBytes.length;
+        event.commit();
+        return screenshotBytes;
+    }
+
+    private byte[] takeElementScreenshot(String name, WebElement region) {
+        ScreenshotCaptureEvent event = new ScreenshotCaptureEvent(name);
+        event.begin();
+        byte[] screenshotBytes = waitForElementVisibility(region).getScreenshotAs(OutputType.BYTES);
+        event.screenshotSize = screenshotBytes.length;
+        event.commit();
+        return screenshotBytes;
+    }
 }
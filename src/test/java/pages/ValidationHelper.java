@@ -1,7 +1,27 @@
 package pages;
 
 import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.Dimension;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import utils.ConfigReader;
+import utils.profiling.ValidationPollEvent;
+import utils.visual.BaselineStore;
+import utils.visual.PixelDiff;
+
+import javax.imageio.ImageIO;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 public class ValidationHelper extends BasePage {
 
@@ -19,8 +39,16 @@ public class ValidationHelper extends BasePage {
             try {
                 System.out.println("Waiting for text '" + text + "' to appear on the screen...");
                 wait.until(driver -> {
+                    ValidationPollEvent event = new ValidationPollEvent(text);
+                    event.begin();
                     String pageSource = driver.getPageSource();
-                    return pageSource != null && pageSource.contains(text);
+                    boolean found = pageSource != null && pageSource.contains(text);
+                    if (event.isEnabled()) {
+                        event.pageSourceSize = pageSource != null ? pageSource.getBytes(StandardCharsets.UTF_8).length : 0;
+                        event.found = found;
+                        event.commit();
+                    }
+                    return found;
                 });
                 System.out.println("Validation successful: Text '" + text + "' was found on the screen.");
             } catch (TimeoutException e) {
@@ -40,4 +68,97 @@ public class ValidationHelper extends BasePage {
         }
         System.out.println("Validation successful: All expected texts were found.");
     }
-}
\ No newline at end of file
+
+    public void assertScreenMatches(String baselineName, WebElement... maskedElements) {
+        List<Rectangle> masks = new ArrayList<>();
+        for (WebElement maskedElement : maskedElements) {
+            org.openqa.selenium.Rectangle rect = maskedElement.getRect();
+            masks.add(new Rectangle(rect.getX(), rect.getY(), rect.getWidth(), rect.getHeight()));
+        }
+        assertScreenMatches(baselineName, masks, driver.manage().window().getSize());
+    }
+
+    public void assertScreenMatches(String baselineName, Rectangle... masks) {
+        assertScreenMatches(baselineName, Arrays.asList(masks), null);
+    }
+
+    private void assertScreenMatches(String baselineName, List<Rectangle> masks, Dimension maskSpace) {
+        byte[] screenshotBytes = getCurrentScreenshot();
+        try {
+            BaselineStore.Baseline baseline = BaselineStore.load(baselineName);
+            if (BaselineStore.isUpdateMode()) {
+                Path baselinePath = BaselineStore.save(baselineName, screenshotBytes);
+                System.out.println("Visual baseline '" + baselineName + "' recorded at " + baselinePath + ".");
+                return;
+            }
+            if (baseline == null) {
+                if (reporter != null) {
+                    Path visualDirectory = Paths.get(reporter.getArtifactPathPrefix() + "_visual");
+                    Files.createDirectories(visualDirectory);
+                    Files.write(visualDirectory.resolve(baselineName + "_actual.png"), screenshotBytes);
+                }
+                String errorMessage = String.format("Visual check '%s' failed: no baseline found. Run with visual.baseline.update=true to record it.",
+                        baselineName);
+                System.err.println(errorMessage);
+                throw new AssertionError(errorMessage);
+            }
+
+            long startNanos = System.nanoTime();
+            BufferedImage actualImage = ImageIO.read(new ByteArrayInputStream(screenshotBytes));
+            if (actualImage == null) {
+                throw new AssertionError("Visual check '" + baselineName + "' failed: the screenshot could not be decoded.");
+            }
+            int[] actualPixels = PixelDiff.toRgbPixels(actualImage);
+            if (actualImage.getWidth() != baseline.getWidth() || actualImage.getHeight() != baseline.getHeight()) {
+                System.out.println("Screenshot is " + actualImage.getWidth() + "x" + actualImage.getHeight() + ", baseline '" + baselineName
+                        + "' is " + baseline.getWidth() + "x" + baseline.getHeight() + ". Resampling the screenshot to the baseline size.");
+                actualPixels = PixelDiff.resize(actualPixels, actualImage.getWidth(), actualImage.getHeight(), baseline.getWidth(), baseline.getHeight());
+            }
+
+            List<Rectangle> comparisonMasks = maskSpace != null ? scaleMasks(masks, maskSpace, baseline.getWidth(), baseline.getHeight()) : masks;
+            PixelDiff.DiffResult result = PixelDiff.compare(actualPixels, baseline.getPixels(), baseline.getWidth(), baseline.getHeight(),
+                    comparisonMasks, ConfigReader.evidence().getPixelTolerance());
+            double maxMismatchRatio = ConfigReader.evidence().getMaxMismatchRatio();
+            System.out.println(String.format("Visual check '%s': %d mismatched pixels (%.4f%%) in %d ms.", baselineName,
+                    result.getMismatchedPixels(), result.getMismatchRatio() * 100, (System.nanoTime() - startNanos) / 1_000_000));
+
+            if (result.getMismatchRatio() > maxMismatchRatio) {
+                ByteArrayOutputStream diffBytes = new ByteArrayOutputStream();
+                ImageIO.write(result.toDiffImage(), "png", diffBytes);
+                if (reporter != null) {
+                    Path visualDirectory = Paths.get(reporter.getArtifactPathPrefix() + "_visual");
+                    Files.createDirectories(visualDirectory);
+                    Files.write(visualDirectory.resolve(baselineName + "_actual.png"), screenshotBytes);
+                    Files.write(visualDirectory.resolve(baselineName + "_diff.png"), diffBytes.toByteArray());
+                    reporter.addScreenshot(diffBytes.toByteArray(), "Visual diff: " + baselineName);
+                }
+                String errorMessage = String.format("Visual check '%s' failed: %.4f%% of pixels differ (allowed %.4f%%).",
+                        baselineName, result.getMismatchRatio() * 100, maxMismatchRatio * 100);
+                System.err.println(errorMessage);
+                throw new AssertionError(errorMessage);
+            }
+        } catch (IOException e) {
+            String errorMessage = String.format("Unexpected error while running visual check '%s': %s", baselineName, e.getMessage());
+            System.err.println(errorMessage);
+            throw new AssertionError(errorMessage, e);
+        }
+    }
+
+    private static List<Rectangle> scaleMasks(List<Rectangle> masks, Dimension maskSpace, int imageWidth, int imageHeight) {
+        if (maskSpace.getWidth() <= 0 || maskSpace.getHeight() <= 0
+                || (maskSpace.getWidth() == imageWidth && maskSpace.getHeight() == imageHeight)) {
+            return masks;
+        }
+        double scaleX = (double) imageWidth / maskSpace.getWidth();
+        double scaleY = (double) imageHeight / maskSpace.getHeight();
+        List<Rectangle> scaledMasks = new ArrayList<>();
+        for (Rectangle mask : masks) {
+            int x = (int) Math.floor(mask.x * scaleX);
+            int y = (int) Math.floor(mask.y * scaleY);
+            scaledMasks.add(new Rectangle(x, y,
+                    (int) Math.ceil((mask.x + mask.width) * scaleX) - x,
+                    (int) Math.ceil((mask.y + mask.height) * scaleY) - y));
+        }
+        return scaledMasks;
+    }
+}
@@ -8,13 +8,13 @@ import pages.BasePage;
 public class LoginPage extends BasePage {
 
     @AndroidFindBy(xpath = "//*[contains(@content-desc, 'Username')]")
-    private WebElement usernameField;
+    WebElement usernameField;
 
     @AndroidFindBy(xpath = "//*[contains(@content-desc, 'Password')]")
-    private WebElement passwordField;
+    WebElement passwordField;
 
     @AndroidFindBy(xpath = "//*[contains(@content-desc, 'LOGIN')]")
-    private WebElement loginButton;
+    WebElement loginButton;
 
     public LoginPage(AndroidDriver driver) {
         super(driver);
@@ -4,15 +4,15 @@ import functions.login.LoginFunc;
 import jdk.jfr.Description;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import utils.DriverManager;
 import utils.HooksManager;
+import utils.rerun.RetryableTest;
 
 @ExtendWith(HooksManager.class)
 public class QA123456IT {
 
-    @Test
+    @RetryableTest
     @DisplayName("QA123459 - Lorem Ipsum is simply dummy text of the printing of the printing and printing dummy simply")
     @Tag("login")
     @Description(
@@ -0,0 +1,30 @@
+package tests.login;
+
+import constants.login.LoginData;
+import functions.login.LoginFunc;
+import jdk.jfr.Description;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.ExtendWith;
+import utils.DriverManager;
+import utils.HooksManager;
+import utils.rerun.RetryableTest;
+
+@ExtendWith(HooksManager.class)
+public class QA123457IT {
+
+    @RetryableTest
+    @DisplayName("QA123457 - Login access matrix for every credential row on a single session")
+    @Tag("login-matrix")
+    @Description(
+            """
+                    Runs the login access flow once per row of the credentials data table,
+                    resetting the app between rows and reporting each row in a single report
+            """)
+
+    public void QA123457() {
+        LoginFunc login = new LoginFunc(DriverManager.getDriver());
+
+        login.validatesAccessForEachRow(LoginData.CREDENTIALS_TABLE);
+    }
+}
@@ -1,26 +1,158 @@
 package utils;
-import java.io.FileInputStream;
+
+import utils.config.ConfigSnapshot;
+import utils.config.EvidenceSettings;
+import utils.config.SessionSettings;
+import utils.parallel.DeviceContext;
+
 import java.io.IOException;
-import java.util.Properties;
+import java.net.URI;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class ConfigReader {
 
-    private static final Properties properties;
+    private static final AtomicReference<Snapshots> SNAPSHOTS = new AtomicReference<>(new Snapshots(ConfigSnapshot.load(null)));
+    private static Thread watcherThread;
 
     static {
-        String filePath = "src/test/resources/config.properties";
+        if (SNAPSHOTS.get().base.getBoolean("config.watch.enabled", false)) {
+            startWatching();
+        }
+    }
+
+    public static String getProperty(String key) {
+        return current().get(key);
+    }
+
+    public static String getProperty(String key, String defaultValue) {
+        return current().get(key, defaultValue);
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        return current().getInt(key, defaultValue);
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        return current().getLong(key, defaultValue);
+    }
+
+    public static double getDouble(String key, double defaultValue) {
+        return current().getDouble(key, defaultValue);
+    }
+
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return current().getBoolean(key, defaultValue);
+    }
+
+    public static List<String> getList(String key) {
+        return current().getList(key);
+    }
+
+    public static SessionSettings session() {
+        return current().getSessionSettings();
+    }
+
+    public static EvidenceSettings evidence() {
+        return current().getEvidenceSettings();
+    }
+
+    public static ConfigSnapshot current() {
+        String boundDevice = DeviceContext.getBoundDeviceName();
+        return boundDevice != null ? forDevice(boundDevice) : SNAPSHOTS.get().base;
+    }
+
+    public static ConfigSnapshot forDevice(String deviceName) {
+        Snapshots snapshots = SNAPSHOTS.get();
+        return snapshots.perDevice.computeIfAbsent(deviceName, ConfigSnapshot::load);
+    }
+
+    public static void reload() {
         try {
-            FileInputStream input = new FileInputStream(filePath);
-            properties = new Properties();
-            properties.load(input);
-            input.close();
+            SNAPSHOTS.set(new Snapshots(ConfigSnapshot.load(null)));
+            System.out.println("Configuration reloaded from " + SNAPSHOTS.get().base.getSources());
+        } catch (RuntimeException e) {
+            System.err.println("Configuration reload failed, keeping the previous snapshot: " + e.getMessage());
+        }
+    }
+
+    public static synchronized void startWatching() {
+        if (watcherThread != null) {
+            return;
+        }
+        Set<Path> directories = new LinkedHashSet<>();
+        for (String source : SNAPSHOTS.get().base.getSources()) {
+            URI sourceUri = URI.create(source);
+            if ("file".equals(sourceUri.getScheme())) {
+                directories.add(Paths.get(sourceUri).getParent());
+            }
+        }
+        Path sourceDirectory = ConfigSnapshot.getSourceDirectory();
+        if (Files.isDirectory(sourceDirectory)) {
+            directories.add(sourceDirectory.toAbsolutePath().normalize());
+        }
+        if (directories.isEmpty()) {
+            System.err.println("Configuration is not loaded from the file system. Hot reload is disabled.");
+            return;
+        }
+
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            for (Path directory : directories) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+            }
+            watcherThread = new Thread(() -> watch(watchService), "config-watcher");
+            watcherThread.setDaemon(true);
+            watcherThread.start();
+            System.out.println("Watching " + directories + " for configuration changes.");
         } catch (IOException e) {
-            System.err.println("ERROR: Failed to load properties file '" + filePath + "'. Details: " + e.getMessage());
-            throw new RuntimeException("Error loading properties file: " + e.getMessage());
+            System.err.println("Could not watch configuration files: " + e.getMessage());
         }
     }
 
-    public static String getProperty(String key) {
-        return properties.getProperty(key);
+    private static void watch(WatchService watchService) {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            boolean configChanged = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                Object context = event.context();
+                if (context != null && context.toString().endsWith(".properties")) {
+                    configChanged = true;
+                }
+            }
+            if (configChanged) {
+                reload();
+            }
+            if (!key.reset()) {
+                return;
+            }
+        }
+    }
+
+    private static class Snapshots {
+        private final ConfigSnapshot base;
+        private final Map<String, ConfigSnapshot> perDevice = new ConcurrentHashMap<>();
+
+        private Snapshots(ConfigSnapshot base) {
+            this.base = base;
+        }
     }
-}
\ No newline at end of file
+}
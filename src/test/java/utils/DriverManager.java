@@ -2,63 +2,142 @@ package utils;
 
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
-import utils.report.PdfReporter;
+import utils.config.SessionSettings;
+import utils.evidence.EvidenceRecorder;
+import utils.evidence.LogcatCollector;
+import utils.evidence.ScreenshotCapturer;
+import utils.parallel.DeviceContext;
+import utils.profiling.DriverSessionEvent;
+import utils.report.TestReporter;
+import utils.session.SessionBootstrap;
+import utils.session.SessionPrewarmer;
 
-import java.net.URL;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 public class DriverManager {
 
-    private static AndroidDriver driver;
-    private static PdfReporter currentPdfReporter;
+    private static final ThreadLocal<AndroidDriver> CURRENT_DRIVER = new ThreadLocal<>();
+    private static final ThreadLocal<TestReporter> CURRENT_REPORTER = new ThreadLocal<>();
+    private static final ThreadLocal<EvidenceRecorder> CURRENT_EVIDENCE_RECORDER = new ThreadLocal<>();
 
     public static AndroidDriver getDriver() {
-        if (driver == null) {
+        AndroidDriver currentDriver = CURRENT_DRIVER.get();
+        if (currentDriver == null) {
             throw new IllegalStateException("Appium driver is not initialized. Ensure HooksManager is properly configured and running.");
         }
-        return driver;
+        return currentDriver;
     }
 
-    public static void initializeDriver(PdfReporter pdfReporter) {
-        if (driver != null) {
+    public static void initializeDriver(TestReporter reporter) {
+        if (CURRENT_DRIVER.get() != null) {
             System.out.println("Driver already initialized. Skipping re-initialization.");
             return;
         }
-        if (pdfReporter == null) {
-            throw new IllegalArgumentException("PdfReporter cannot be null during driver initialization. It must be provided by HooksManager.");
+        if (reporter == null) {
+            throw new IllegalArgumentException("TestReporter cannot be null during driver initialization. It must be provided by HooksManager.");
         }
 
-        currentPdfReporter = pdfReporter;
+        CURRENT_REPORTER.set(reporter);
+        CURRENT_DRIVER.set(acquireDriver(DeviceContext.getDeviceName(), DeviceContext.getSlotIndex(), DeviceContext.isBound()));
+    }
 
-        String appiumServerURL = ConfigReader.getProperty("appium.server.url");
-        UiAutomator2Options options = new UiAutomator2Options();
+    public static void initializeDriver(TestReporter reporter, CompletableFuture<AndroidDriver> pendingDriver) {
+        if (CURRENT_DRIVER.get() != null) {
+            System.out.println("Driver already initialized. Skipping re-initialization.");
+            return;
+        }
+        if (reporter == null) {
+            throw new IllegalArgumentException("TestReporter cannot be null during driver initialization. It must be provided by HooksManager.");
+        }
 
-        options.setPlatformName(ConfigReader.getProperty("platform.name"));
-        options.setDeviceName(ConfigReader.getProperty("device.name"));
-        options.setAutomationName("UiAutomator2");
-        options.setNewCommandTimeout(java.time.Duration.ofSeconds(300));
-        options.setApp(ConfigReader.getProperty("app.path"));
-        options.setAppPackage(ConfigReader.getProperty("app.package"));
-        options.setAppActivity(ConfigReader.getProperty("app.activity"));
+        CURRENT_REPORTER.set(reporter);
+        try {
+            CURRENT_DRIVER.set(pendingDriver.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException("Error initializing driver: ", e.getCause());
+        }
+    }
+
+    public static AndroidDriver acquireDriver(String deviceName, int slotIndex, boolean pinDevice) {
+        AndroidDriver prewarmedDriver = SessionPrewarmer.take(deviceName);
+        if (prewarmedDriver != null) {
+            System.out.println("Using pre-warmed Appium session " + prewarmedDriver.getSessionId() + " for " + deviceName + ".");
+            return prewarmedDriver;
+        }
+        return createDriver(deviceName, slotIndex, pinDevice);
+    }
 
-        boolean noReset = Boolean.parseBoolean(ConfigReader.getProperty("no.reset"));
-        options.setNoReset(noReset);
+    public static AndroidDriver createDriver(String deviceName, int slotIndex, boolean pinDevice) {
+        SessionSettings sessionSettings = ConfigReader.forDevice(deviceName).getSessionSettings();
+        String appiumServerURL = sessionSettings.getAppiumServerUrl();
+        UiAutomator2Options options = SessionBootstrap.buildOptions(deviceName, slotIndex, pinDevice);
 
+        DriverSessionEvent event = new DriverSessionEvent();
+        event.serverUrl = appiumServerURL;
+        event.deviceName = deviceName;
+        event.fastBootstrap = SessionBootstrap.isFastLaunch(options);
+        event.begin();
+        long startNanos = System.nanoTime();
         try {
-            driver = new AndroidDriver(new URL(appiumServerURL), options);
+            AndroidDriver newDriver = new AndroidDriver(URI.create(appiumServerURL).toURL(), options);
+            event.success = true;
+            System.out.println("Appium session on " + deviceName + " created in " + (System.nanoTime() - startNanos) / 1_000_000 + " ms"
+                    + (event.fastBootstrap ? " (package/activity launch)." : " (app install check)."));
+            SessionBootstrap.onSessionCreated(deviceName, options);
+            ScreenshotCapturer.applySettings(newDriver);
+            LogcatCollector.start(newDriver, sessionSettings);
+            return newDriver;
         } catch (Exception e) {
             throw new RuntimeException("Error initializing driver: ", e);
+        } finally {
+            event.commit();
         }
     }
 
+    public static boolean isInitialized() {
+        return CURRENT_DRIVER.get() != null;
+    }
+
+    public static void bindReporter(TestReporter reporter) {
+        CURRENT_REPORTER.set(reporter);
+    }
+
+    public static void resetApp() {
+        AndroidDriver currentDriver = getDriver();
+        EvidenceRecorder evidenceRecorder = CURRENT_EVIDENCE_RECORDER.get();
+        if (evidenceRecorder != null) {
+            evidenceRecorder.forgetLastScreenshot(currentDriver);
+        }
+        String appPackage = ConfigReader.session().getAppPackage();
+        currentDriver.terminateApp(appPackage);
+        currentDriver.activateApp(appPackage);
+    }
+
     public static void quitDriver() {
-        if (driver != null) {
-            driver.quit();
-            driver = null;
+        AndroidDriver currentDriver = CURRENT_DRIVER.get();
+        if (currentDriver != null) {
+            LogcatCollector.stop(currentDriver);
+            currentDriver.quit();
+            CURRENT_DRIVER.remove();
         }
-        currentPdfReporter = null;
+        CURRENT_REPORTER.remove();
+        CURRENT_EVIDENCE_RECORDER.remove();
+    }
+
+    public static TestReporter getReporter() {
+        return CURRENT_REPORTER.get();
+    }
+
+    public static EvidenceRecorder getEvidenceRecorder() {
+        return CURRENT_EVIDENCE_RECORDER.get();
     }
 
-    public static PdfReporter getPdfReporter() {
-        return currentPdfReporter;
+    public static void setEvidenceRecorder(EvidenceRecorder evidenceRecorder) {
+        CURRENT_EVIDENCE_RECORDER.set(evidenceRecorder);
     }
 }
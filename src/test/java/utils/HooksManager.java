@@ -1,46 +1,63 @@
 package utils;
 
-import org.apache.commons.io.output.TeeOutputStream;
+import io.appium.java_client.android.AndroidDriver;
 import org.junit.jupiter.api.extension.*;
 import jdk.jfr.Description;
-import utils.report.PdfReporter;
+import utils.evidence.CaptureMode;
+import utils.evidence.EvidenceRecorder;
+import utils.evidence.EvidenceStore;
+import utils.evidence.FailureSnapshot;
+import utils.evidence.LogcatCollector;
+import utils.history.TestHistoryStore;
+import utils.parallel.DeviceContext;
+import utils.performance.PerformanceSampler;
+import utils.parallel.SuiteScheduler;
+import utils.profiling.JfrEvents;
+import utils.rerun.FailureClassifier;
+import utils.rerun.InfrastructureRetryExtension;
+import utils.report.ReportFormat;
+import utils.report.TestReporter;
 import utils.report.TestReportData;
+import utils.report.bundle.SuiteBundleBuilder;
+import utils.report.dashboard.RunDashboardGenerator;
+import utils.report.dashboard.RunIndexWriter;
+import utils.session.SessionPrewarmer;
+import utils.session.StartupPipeline;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.PrintStream;
 import java.time.LocalDateTime;
 import java.lang.reflect.Method;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
-public class HooksManager implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+public class HooksManager implements ExecutionCondition, BeforeTestExecutionCallback, InvocationInterceptor, AfterTestExecutionCallback {
 
     private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(HooksManager.class);
-    private static final String GIT_USER_NAME_CONFIG_KEY = "user.name";
+    private static final String RUN_DASHBOARD_KEY = "runDashboard";
+    private static final int SLOW_ALERT_MIN_SAMPLES = 5;
+    private static final double SLOW_ALERT_FACTOR = 1.5;
+    private static final AtomicInteger FAILED_TESTS = new AtomicInteger();
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        int failFastMaxFailures = ConfigReader.getInt("rerun.fail.fast.max.failures", 0);
+        if (context.getTestMethod().isPresent() && failFastMaxFailures > 0 && FAILED_TESTS.get() >= failFastMaxFailures) {
+            return ConditionEvaluationResult.disabled("Fail-fast: " + FAILED_TESTS.get() + " test(s) already failed in this run.");
+        }
+        return ConditionEvaluationResult.enabled("Fail-fast threshold not reached.");
+    }
 
     @Override
     public void beforeTestExecution(ExtensionContext context) {
+        JfrEvents.registerIfEnabled();
+        StartupPipeline.warmUp();
+        if (!SuiteScheduler.isActive()) {
+            context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(RUN_DASHBOARD_KEY, key -> (AutoCloseable) HooksManager::finishRun);
+        }
         ExtensionContext.Store store = context.getStore(NAMESPACE);
 
-        LocalDateTime testStartTime = LocalDateTime.now();
-        store.put("testStartTime", testStartTime);
-
-        PrintStream oldOut = System.out;
-        PrintStream oldErr = System.err;
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-
-        TeeOutputStream teeOut = new TeeOutputStream(oldOut, byteArrayOutputStream);
-        TeeOutputStream teeErr = new TeeOutputStream(oldErr, byteArrayOutputStream);
-
-        System.setOut(new PrintStream(teeOut, true));
-        System.setErr(new PrintStream(teeErr, true));
-
-        store.put("oldOut", oldOut);
-        store.put("oldErr", oldErr);
-        store.put("byteArrayOutputStream", byteArrayOutputStream);
-
         String contextName = context.getTags().stream().findFirst().orElse("general");
+        store.put("contextName", contextName);
 
         String fullDisplayName = context.getDisplayName();
         String testCode = fullDisplayName;
@@ -51,26 +68,76 @@ public class HooksManager implements BeforeTestExecutionCallback, AfterTestExecu
             testCode = fullDisplayName.substring(0, dashIndex);
             descriptiveTestName = fullDisplayName.substring(dashIndex + 3);
         }
+        store.put("testCode", testCode);
+        store.put("descriptiveTestName", descriptiveTestName);
 
-        String reportFileName = testCode.replaceAll("[^a-zA-Z0-9.-]", "_");
-        String platformName = ConfigReader.getProperty("platform.name");
+        startAttempt(context, store, InfrastructureRetryExtension.currentAttempt(context));
+    }
 
-        PdfReporter pdfReporter = new PdfReporter(contextName, reportFileName, platformName.toLowerCase());
-        store.put("pdfReporter", pdfReporter);
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        invocation.proceed();
+        verifyPerformance(extensionContext.getStore(NAMESPACE));
+    }
 
-        TestReportData reportData = pdfReporter.getReportData();
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        invocation.proceed();
+        verifyPerformance(extensionContext.getStore(NAMESPACE));
+    }
 
-        reportData.setTestName(descriptiveTestName);
-        reportData.setNewInfoFieldContent(testCode);
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        Throwable throwable = context.getExecutionException().orElse(null);
+        int attempt = InfrastructureRetryExtension.currentAttempt(context);
 
-        String gitUserName = getGitConfig();
-        if (gitUserName != null && !gitUserName.isEmpty()) {
-            reportData.setResponsibleContent(gitUserName.toUpperCase());
-        } else {
-            String systemUserName = System.getProperty("user.name");
-            reportData.setResponsibleContent(systemUserName != null ? systemUserName.toUpperCase() : "N/A");
-            System.err.println("Could not get Git user.name. Falling back to system user.name: " + (systemUserName != null ? systemUserName : "N/A"));
+        if (InfrastructureRetryExtension.isRetryPending(context)) {
+            finishAttempt(store, throwable.getCause() != null ? throwable.getCause() : throwable, true);
+            prepareSessionForRetry();
+            return;
+        }
+        if (throwable != null) {
+            FAILED_TESTS.incrementAndGet();
+        } else if (attempt > 1) {
+            System.out.println("Attempt " + attempt + " passed after retry.");
+        }
+
+        TestReportData reportData = finishAttempt(store, throwable, false);
+        if (reportData != null) {
+            recordHistory(reportData);
         }
+    }
+
+    private void startAttempt(ExtensionContext context, ExtensionContext.Store store, int attempt) {
+        LocalDateTime testStartTime = LocalDateTime.now();
+        store.put("testStartTime", testStartTime);
+
+        LogCapture.start();
+        CompletableFuture<AndroidDriver> pendingSession = DriverManager.isInitialized() ? null : StartupPipeline.openSession();
+
+        String contextName = store.get("contextName", String.class);
+        String testCode = store.get("testCode", String.class);
+        String reportFileName = testCode.replaceAll("[^a-zA-Z0-9.-]", "_") + (attempt > 1 ? "_ATTEMPT" + attempt : "");
+        String platformName = ConfigReader.getProperty("platform.name");
+
+        TestReporter reporter;
+        try {
+            reporter = ReportFormat.fromConfig(ConfigReader.getProperty("report.format")).create(contextName, reportFileName, platformName.toLowerCase());
+        } catch (RuntimeException e) {
+            StartupPipeline.discard(pendingSession);
+            throw e;
+        }
+        store.put("reporter", reporter);
+
+        TestReportData reportData = reporter.getReportData();
+
+        reportData.setTestName(store.get("descriptiveTestName", String.class));
+        reportData.setNewInfoFieldContent(testCode);
+        reportData.setResponsibleContent(StartupPipeline.getResponsible());
+        reportData.setAttempt(attempt);
 
         context.getElement()
                .filter(Method.class::isInstance)
@@ -78,76 +145,147 @@ public class HooksManager implements BeforeTestExecutionCallback, AfterTestExecu
                .map(method -> method.getAnnotation(Description.class))
                .ifPresent(descriptionAnnotation -> reportData.setTestDescription(descriptionAnnotation.value()));
 
-        DriverManager.initializeDriver(pdfReporter);
+        EvidenceRecorder evidenceRecorder = EvidenceRecorder.fromConfig(reporter, context.getTags());
+        store.put("evidenceRecorder", evidenceRecorder);
+
+        if (pendingSession == null) {
+            DriverManager.bindReporter(reporter);
+        } else {
+            DriverManager.initializeDriver(reporter, pendingSession);
+        }
+        DriverManager.setEvidenceRecorder(evidenceRecorder);
+        LogcatCollector logcatCollector = LogcatCollector.forDriver(DriverManager.getDriver());
+        if (logcatCollector != null) {
+            logcatCollector.reset();
+        }
+        evidenceRecorder.startRecording(DriverManager.getDriver());
+
+        PerformanceSampler performanceSampler = PerformanceSampler.start(DriverManager.getDriver(), DeviceContext.getDeviceName(), reportData);
+        if (performanceSampler != null) {
+            store.put("performanceSampler", performanceSampler);
+        }
+        reportData.resetStepClock();
     }
 
-    @Override
-    public void afterTestExecution(ExtensionContext context) {
-        ExtensionContext.Store store = context.getStore(NAMESPACE);
+    private void verifyPerformance(ExtensionContext.Store store) {
+        PerformanceSampler performanceSampler = store.get("performanceSampler", PerformanceSampler.class);
+        if (performanceSampler != null) {
+            performanceSampler.stop();
+            performanceSampler.assertWithinThresholds();
+        }
+    }
 
+    private TestReportData finishAttempt(ExtensionContext.Store store, Throwable throwable, boolean retryPending) {
         String finalTestStatus = "SUCCESS";
-        Throwable throwable = context.getExecutionException().orElse(null);
         if (throwable != null) {
             finalTestStatus = "FAILURE";
         }
 
-        System.out.println("Closing Appium session...");
-        DriverManager.quitDriver();
+        PerformanceSampler performanceSampler = store.remove("performanceSampler", PerformanceSampler.class);
+        if (performanceSampler != null) {
+            performanceSampler.stop();
+        }
+
+        if (throwable != null && FailureSnapshot.isEnabled()) {
+            TestReporter failedTestReporter = store.get("reporter", TestReporter.class);
+            if (failedTestReporter != null) {
+                try {
+                    FailureSnapshot.capture(DriverManager.getDriver(), failedTestReporter);
+                } catch (Exception e) {
+                    System.err.println("Error capturing failure snapshot: " + e.getMessage());
+                }
+            }
+        }
+
+        LogcatCollector logcatCollector = DriverManager.isInitialized() ? LogcatCollector.forDriver(DriverManager.getDriver()) : null;
+        TestReporter activeReporter = store.get("reporter", TestReporter.class);
+        if (logcatCollector != null && activeReporter != null) {
+            activeReporter.getReportData().setDeviceLogsContent(logcatCollector.reportContent(throwable != null));
+        }
 
-        PrintStream oldOut = store.remove("oldOut", PrintStream.class);
-        PrintStream oldErr = store.remove("oldErr", PrintStream.class);
-        ByteArrayOutputStream byteArrayOutputStream = store.remove("byteArrayOutputStream", ByteArrayOutputStream.class);
+        EvidenceRecorder activeEvidenceRecorder = store.get("evidenceRecorder", EvidenceRecorder.class);
+        if (activeEvidenceRecorder != null && activeEvidenceRecorder.getCaptureMode() == CaptureMode.RECORDING) {
+            try {
+                activeEvidenceRecorder.stopRecording(DriverManager.getDriver());
+            } catch (Exception e) {
+                System.err.println("Error stopping evidence recording: " + e.getMessage());
+            }
+        }
 
-        if (oldOut != null) System.setOut(oldOut);
-        if (oldErr != null) System.setErr(oldErr);
+        if (!retryPending) {
+            System.out.println("Closing Appium session...");
+            DriverManager.quitDriver();
+            SessionPrewarmer.prewarm(DeviceContext.getDeviceName(), DeviceContext.getSlotIndex(), DeviceContext.isBound());
+        }
 
-        String capturedLogs = byteArrayOutputStream != null ? byteArrayOutputStream.toString() : "";
-        if (oldOut != null) oldOut.println(capturedLogs);
+        String capturedLogs = LogCapture.stop();
+        LogCapture.getOriginalOut().println(capturedLogs);
 
         LocalDateTime testStartTime = store.remove("testStartTime", LocalDateTime.class);
         LocalDateTime testEndTime = LocalDateTime.now();
 
-        PdfReporter pdfReporter = store.remove("pdfReporter", PdfReporter.class);
-        if (pdfReporter != null) {
-            TestReportData reportData = pdfReporter.getReportData();
+        EvidenceRecorder evidenceRecorder = store.remove("evidenceRecorder", EvidenceRecorder.class);
+        if (evidenceRecorder != null) {
+            evidenceRecorder.finish(throwable != null);
+        }
 
-            reportData.setLogsContent(capturedLogs);
-            reportData.setExecutionTimes(testStartTime, testEndTime);
-            reportData.setTestStatus(finalTestStatus);
-            pdfReporter.closeReport();
+        TestReporter reporter = store.remove("reporter", TestReporter.class);
+        if (reporter == null) {
+            return null;
         }
 
-        try {
-            if (byteArrayOutputStream != null) byteArrayOutputStream.close();
-        } catch (IOException e) {
-            System.err.println("Error closing ByteArrayOutputStream: " + e.getMessage());
+        TestReportData reportData = reporter.getReportData();
+
+        reportData.setLogsContent(capturedLogs);
+        EvidenceStore.attachTextToAllure("Test logs", capturedLogs);
+        EvidenceStore.attachTextToAllure("Device logs", reportData.getDeviceLogsContent());
+        reportData.setExecutionTimes(testStartTime, testEndTime);
+        reportData.setTestStatus(finalTestStatus);
+        if (throwable != null) {
+            reportData.setFailureCategory(FailureClassifier.classify(throwable).name());
         }
+        reporter.closeReport();
+
+        if (!retryPending) {
+            RunIndexWriter.getInstance().append(store.get("contextName", String.class), reporter.getReportFilePath(), reportData);
+        }
+        return reportData;
     }
 
-    private String getGitConfig() {
+    private void prepareSessionForRetry() {
         try {
-            ProcessBuilder processBuilder = new ProcessBuilder("git", "config", GIT_USER_NAME_CONFIG_KEY);
-            processBuilder.redirectErrorStream(true);
-            Process process = processBuilder.start();
-
-            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
-            StringBuilder output = new StringBuilder();
-            String line;
-            while ((line = reader.readLine()) != null) {
-                output.append(line);
+            DriverManager.resetApp();
+        } catch (Exception e) {
+            System.err.println("Warm session could not be reused (" + e.getMessage() + "). A new session will be created for the retry.");
+            try {
+                DriverManager.quitDriver();
+            } catch (Exception quitException) {
+                System.err.println("Error closing broken session: " + quitException.getMessage());
             }
+        }
+    }
 
-            int exitCode = process.waitFor();
-            if (exitCode == 0) {
-                return output.toString().trim();
-            } else {
-                System.err.println("Git command 'git config " + GIT_USER_NAME_CONFIG_KEY + "' failed with exit code: " + exitCode);
-                System.err.println("Git command output: " + output);
-                return null;
-            }
-        } catch (IOException | InterruptedException e) {
-            System.err.println("Error executing git command 'git config " + GIT_USER_NAME_CONFIG_KEY + "': " + e.getMessage());
-            return null;
+    private void recordHistory(TestReportData reportData) {
+        String testCode = reportData.getNewInfoFieldContent();
+        long durationMillis = reportData.getDurationMillis();
+        TestHistoryStore historyStore = TestHistoryStore.getInstance();
+
+        OptionalLong p95Millis = historyStore.percentile(testCode, 95);
+        if (historyStore.sampleCount(testCode) >= SLOW_ALERT_MIN_SAMPLES && p95Millis.isPresent()
+                && durationMillis > p95Millis.getAsLong() * SLOW_ALERT_FACTOR) {
+            System.err.println("SLOW TEST ALERT: " + testCode + " took " + durationMillis + " ms, above "
+                    + SLOW_ALERT_FACTOR + "x its historical p95 of " + p95Millis.getAsLong() + " ms.");
+        }
+        historyStore.record(testCode, durationMillis, reportData.getTestStatus());
+    }
+
+    public static void finishRun() {
+        SessionPrewarmer.discardAll();
+        RunIndexWriter runIndexWriter = RunIndexWriter.getInstance();
+        runIndexWriter.close();
+        RunDashboardGenerator.generate(runIndexWriter.getRunDirectory());
+        if (ConfigReader.getBoolean("report.bundle.enabled", false)) {
+            SuiteBundleBuilder.build(runIndexWriter.getRunDirectory());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package utils;
+
+import org.apache.commons.io.output.TeeOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.Callable;
+
+public class LogCapture {
+
+    private static final ThreadLocal<ByteArrayOutputStream> CURRENT_BUFFER = new ThreadLocal<>();
+
+    private static PrintStream originalOut;
+    private static PrintStream originalErr;
+
+    public static synchronized void install() {
+        if (originalOut != null) {
+            return;
+        }
+        originalOut = System.out;
+        originalErr = System.err;
+
+        System.setOut(new PrintStream(new TeeOutputStream(originalOut, new CurrentThreadBufferStream()), true));
+        System.setErr(new PrintStream(new TeeOutputStream(originalErr, new CurrentThreadBufferStream()), true));
+    }
+
+    public static void start() {
+        install();
+        CURRENT_BUFFER.set(new ByteArrayOutputStream());
+    }
+
+    public static String stop() {
+        ByteArrayOutputStream buffer = CURRENT_BUFFER.get();
+        CURRENT_BUFFER.remove();
+        return buffer != null ? buffer.toString() : "";
+    }
+
+    public static ByteArrayOutputStream getCurrentBuffer() {
+        return CURRENT_BUFFER.get();
+    }
+
+    public static void attach(ByteArrayOutputStream buffer) {
+        if (buffer != null) {
+            CURRENT_BUFFER.set(buffer);
+        }
+    }
+
+    public static void detach() {
+        CURRENT_BUFFER.remove();
+    }
+
+    public static <T> Callable<T> withCurrentBuffer(Callable<T> task) {
+        ByteArrayOutputStream buffer = CURRENT_BUFFER.get();
+        return () -> {
+            attach(buffer);
+            try {
+                return task.call();
+            } finally {
+                detach();
+            }
+        };
+    }
+
+    public static void append(ByteArrayOutputStream buffer) {
+        ByteArrayOutputStream currentBuffer = CURRENT_BUFFER.get();
+        if (currentBuffer != null && buffer != null) {
+            currentBuffer.writeBytes(buffer.toByteArray());
+        }
+    }
+
+    public static PrintStream getOriginalOut() {
+        return originalOut != null ? originalOut : System.out;
+    }
+
+    private static class CurrentThreadBufferStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+            ByteArrayOutputStream buffer = CURRENT_BUFFER.get();
+            if (buffer != null) {
+                buffer.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ByteArrayOutputStream buffer = CURRENT_BUFFER.get();
+            if (buffer != null) {
+                buffer.write(b, off, len);
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package utils.benchmark;
+
+import constants.login.MessagesAndTitlesLogin;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.android.nativekey.AndroidKey;
+import io.appium.java_client.android.nativekey.KeyEvent;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.json.Json;
+import utils.ConfigReader;
+import utils.DriverManager;
+import utils.evidence.LogcatCollector;
+import utils.report.PdfReporter;
+import utils.report.TestReportData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class StartupBenchmark {
+
+    private static final String BASE_BENCHMARKS_DIR = "target/benchmarks/";
+    private static final DateTimeFormatter RUN_ID_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    private static final Json JSON = new Json();
+
+    private final String deviceName;
+    private final String appPackage;
+    private final int iterations;
+    private final int warmupIterations;
+    private final long pollIntervalMillis;
+    private final long timeoutMillis;
+    private final double confidenceLevel;
+    private final List<Long> coldStartMillis = new ArrayList<>();
+    private final List<Long> warmStartMillis = new ArrayList<>();
+    private final StringBuilder log = new StringBuilder();
+    private int timeouts;
+
+    public StartupBenchmark() {
+        this.deviceName = ConfigReader.getProperty("device.name");
+        this.appPackage = ConfigReader.session().getAppPackage();
+        this.iterations = Math.max(1, ConfigReader.getInt("benchmark.iterations", 10));
+        this.warmupIterations = Math.max(0, ConfigReader.getInt("benchmark.warmup.iterations", 1));
+        this.pollIntervalMillis = Math.max(10, ConfigReader.getLong("benchmark.poll.interval.ms", 100));
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(ConfigReader.getLong("benchmark.timeout.seconds", 30));
+        this.confidenceLevel = ConfigReader.getDouble("benchmark.confidence.level", 0.95);
+    }
+
+    public static void main(String[] args) {
+        int failedIterations = new StartupBenchmark().run();
+        if (failedIterations > 0) {
+            throw new IllegalStateException(failedIterations + " startup measurement(s) did not reach the login page. See target/benchmarks for details.");
+        }
+    }
+
+    public int run() {
+        LocalDateTime startTime = LocalDateTime.now();
+        String serverUrl = ConfigReader.session().getAppiumServerUrl();
+        log("Startup benchmark for " + appPackage + " on " + deviceName + " via " + serverUrl
+                + ": " + warmupIterations + " warm-up + " + iterations + " measured iteration(s).");
+
+        AndroidDriver driver = DriverManager.createDriver(deviceName, 0, false);
+        byte[] loginScreenshot = null;
+        try {
+            for (int iteration = 1; iteration <= warmupIterations; iteration++) {
+                long warmupMillis = measureColdStart(driver);
+                log("Warm-up " + iteration + ": cold start " + describe(warmupMillis));
+            }
+            for (int iteration = 1; iteration <= iterations; iteration++) {
+                long coldMillis = measureColdStart(driver);
+                long warmMillis = measureWarmStart(driver);
+                record(coldStartMillis, coldMillis);
+                record(warmStartMillis, warmMillis);
+                log("Iteration " + iteration + ": cold " + describe(coldMillis) + ", warm " + describe(warmMillis));
+            }
+            loginScreenshot = driver.getScreenshotAs(OutputType.BYTES);
+        } finally {
+            LogcatCollector.stop(driver);
+            driver.quit();
+        }
+
+        StartupStats coldStats = StartupStats.of(coldStartMillis, confidenceLevel);
+        StartupStats warmStats = StartupStats.of(warmStartMillis, confidenceLevel);
+        log("COLD START: " + (coldStats != null ? coldStats : "no successful measurement"));
+        log("WARM START: " + (warmStats != null ? warmStats : "no successful measurement"));
+
+        writeReport(startTime, serverUrl, coldStats, warmStats, loginScreenshot);
+        return timeouts;
+    }
+
+    private long measureColdStart(AndroidDriver driver) {
+        driver.terminateApp(appPackage);
+        return measureLaunch(driver);
+    }
+
+    private long measureWarmStart(AndroidDriver driver) {
+        driver.pressKey(new KeyEvent(AndroidKey.HOME));
+        return measureLaunch(driver);
+    }
+
+    private long measureLaunch(AndroidDriver driver) {
+        long startNanos = System.nanoTime();
+        driver.activateApp(appPackage);
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (System.nanoTime() < deadlineNanos) {
+            if (isLoginPageVisible(driver.getPageSource())) {
+                return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            }
+            try {
+                Thread.sleep(pollIntervalMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isLoginPageVisible(String pageSource) {
+        if (pageSource == null) {
+            return false;
+        }
+        for (String text : MessagesAndTitlesLogin.LOGIN_PAGE) {
+            if (!pageSource.contains(text)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void record(List<Long> durations, long durationMillis) {
+        if (durationMillis < 0) {
+            timeouts++;
+        } else {
+            durations.add(durationMillis);
+        }
+    }
+
+    private String describe(long durationMillis) {
+        return durationMillis < 0 ? "TIMEOUT (" + timeoutMillis + " ms)" : durationMillis + " ms";
+    }
+
+    private void log(String message) {
+        System.out.println(message);
+        log.append(message).append(System.lineSeparator());
+    }
+
+    private void writeReport(LocalDateTime startTime, String serverUrl, StartupStats coldStats, StartupStats warmStats, byte[] loginScreenshot) {
+        Path benchmarkDirPath = Paths.get(BASE_BENCHMARKS_DIR, "startup_" + startTime.format(RUN_ID_FORMATTER));
+        try {
+            Files.createDirectories(benchmarkDirPath);
+
+            Map<String, Object> results = new LinkedHashMap<>();
+            results.put("appPackage", appPackage);
+            results.put("deviceName", deviceName);
+            results.put("serverUrl", serverUrl);
+            results.put("startTime", startTime.toString());
+            results.put("iterations", iterations);
+            results.put("warmupIterations", warmupIterations);
+            results.put("timeouts", timeouts);
+            results.put("coldStartMillis", coldStartMillis);
+            results.put("warmStartMillis", warmStartMillis);
+            results.put("coldStart", coldStats != null ? coldStats.toMap() : null);
+            results.put("warmStart", warmStats != null ? warmStats.toMap() : null);
+            Files.writeString(benchmarkDirPath.resolve("results.json"), JSON.toJson(results), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            System.err.println("Error writing benchmark results to '" + benchmarkDirPath + "': " + e.getMessage());
+            return;
+        }
+
+        TestReportData reportData = new TestReportData("STARTUP_BENCHMARK");
+        reportData.setTestName("Startup benchmark " + appPackage);
+        reportData.setTestDescription("Time from activateApp to the login page for " + iterations + " cold (terminateApp) and warm (HOME key) starts.");
+        reportData.setNewInfoFieldContent("STARTUP_BENCHMARK");
+        String systemUserName = System.getProperty("user.name");
+        reportData.setResponsibleContent(systemUserName != null ? systemUserName.toUpperCase() : "N/A");
+        reportData.setTestStatus(timeouts == 0 ? "SUCCESS" : "FAILURE");
+        reportData.setLogsContent(log.toString());
+        reportData.setExecutionTimes(startTime, LocalDateTime.now());
+
+        PdfReporter pdfReporter = new PdfReporter(reportData, benchmarkDirPath.resolve("startup-benchmark.pdf").toString());
+        if (loginScreenshot != null) {
+            pdfReporter.addScreenshot(loginScreenshot, "Login page after last warm start");
+        }
+        pdfReporter.closeReport();
+        System.out.println("Startup benchmark report saved at: " + benchmarkDirPath);
+    }
+}
@@ -0,0 +1,103 @@
+package utils.benchmark;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class StartupStats {
+
+    private static final int BOOTSTRAP_RESAMPLES = 2000;
+    private static final long BOOTSTRAP_SEED = 42;
+
+    private final int count;
+    private final double min;
+    private final double max;
+    private final double mean;
+    private final double standardDeviation;
+    private final double median;
+    private final double p90;
+    private final double medianLowerBound;
+    private final double medianUpperBound;
+    private final double confidenceLevel;
+
+    private StartupStats(double[] sorted, double confidenceLevel) {
+        this.count = sorted.length;
+        this.min = sorted[0];
+        this.max = sorted[sorted.length - 1];
+        this.mean = Arrays.stream(sorted).average().orElse(Double.NaN);
+        this.standardDeviation = sorted.length > 1
+                ? Math.sqrt(Arrays.stream(sorted).map(value -> (value - mean) * (value - mean)).sum() / (sorted.length - 1))
+                : 0;
+        this.median = median(sorted);
+        this.p90 = percentile(sorted, 90);
+        this.confidenceLevel = confidenceLevel;
+
+        double[] bootstrapMedians = new double[BOOTSTRAP_RESAMPLES];
+        double[] resample = new double[sorted.length];
+        Random random = new Random(BOOTSTRAP_SEED);
+        for (int round = 0; round < BOOTSTRAP_RESAMPLES; round++) {
+            for (int index = 0; index < resample.length; index++) {
+                resample[index] = sorted[random.nextInt(sorted.length)];
+            }
+            Arrays.sort(resample);
+            bootstrapMedians[round] = median(resample);
+        }
+        Arrays.sort(bootstrapMedians);
+        double tail = (1 - confidenceLevel) / 2 * 100;
+        this.medianLowerBound = percentile(bootstrapMedians, tail);
+        this.medianUpperBound = percentile(bootstrapMedians, 100 - tail);
+    }
+
+    public static StartupStats of(List<Long> durationsMillis, double confidenceLevel) {
+        if (durationsMillis.isEmpty()) {
+            return null;
+        }
+        double[] sorted = durationsMillis.stream().mapToDouble(Long::doubleValue).sorted().toArray();
+        return new StartupStats(sorted, confidenceLevel);
+    }
+
+    private static double median(double[] sorted) {
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static double percentile(double[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.min(sorted.length - 1, Math.max(0, rank - 1))];
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMedian() {
+        return median;
+    }
+
+    public double getP90() {
+        return p90;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("count", count);
+        values.put("minMillis", min);
+        values.put("maxMillis", max);
+        values.put("meanMillis", Math.round(mean * 10) / 10d);
+        values.put("stdDevMillis", Math.round(standardDeviation * 10) / 10d);
+        values.put("medianMillis", median);
+        values.put("p90Millis", p90);
+        values.put("confidenceLevel", confidenceLevel);
+        values.put("medianCiLowerMillis", medianLowerBound);
+        values.put("medianCiUpperMillis", medianUpperBound);
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d  median %.0f ms (%.0f%% CI %.0f-%.0f)  p90 %.0f ms  mean %.1f +/- %.1f ms  min %.0f  max %.0f",
+                count, median, confidenceLevel * 100, medianLowerBound, medianUpperBound, p90, mean, standardDeviation, min, max);
+    }
+}
@@ -0,0 +1,73 @@
+package utils.benchmark;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupStatsTest {
+
+    @Test
+    void emptySampleHasNoStatistics() {
+        assertNull(StartupStats.of(List.of(), 0.95));
+    }
+
+    @Test
+    void summarisesTheSampleRegardlessOfOrder() {
+        StartupStats stats = StartupStats.of(List.of(500L, 100L, 400L, 200L, 300L), 0.95);
+        Map<String, Object> values = stats.toMap();
+
+        assertEquals(5, stats.getCount());
+        assertEquals(300.0, stats.getMedian());
+        assertEquals(500.0, stats.getP90());
+        assertEquals(100.0, values.get("minMillis"));
+        assertEquals(500.0, values.get("maxMillis"));
+        assertEquals(300.0, values.get("meanMillis"));
+        assertEquals(158.1, values.get("stdDevMillis"));
+    }
+
+    @Test
+    void medianOfAnEvenSampleAveragesTheMiddleValues() {
+        StartupStats stats = StartupStats.of(List.of(100L, 200L, 300L, 400L), 0.95);
+
+        assertEquals(250.0, stats.getMedian());
+    }
+
+    @Test
+    void bootstrapIntervalBracketsTheMedianAndIsReproducible() {
+        List<Long> durations = List.of(900L, 950L, 1000L, 1010L, 1020L, 1050L, 1100L, 1200L, 1400L, 2500L);
+        Map<String, Object> first = StartupStats.of(durations, 0.95).toMap();
+        Map<String, Object> second = StartupStats.of(durations, 0.95).toMap();
+
+        double lower = (double) first.get("medianCiLowerMillis");
+        double upper = (double) first.get("medianCiUpperMillis");
+        assertTrue(lower <= (double) first.get("medianMillis"));
+        assertTrue(upper >= (double) first.get("medianMillis"));
+        assertTrue(lower >= 900 && upper <= 2500);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void narrowerConfidenceLevelGivesANarrowerOrEqualInterval() {
+        List<Long> durations = List.of(900L, 950L, 1000L, 1010L, 1020L, 1050L, 1100L, 1200L, 1400L, 2500L);
+        Map<String, Object> wide = StartupStats.of(durations, 0.95).toMap();
+        Map<String, Object> narrow = StartupStats.of(durations, 0.5).toMap();
+
+        double wideWidth = (double) wide.get("medianCiUpperMillis") - (double) wide.get("medianCiLowerMillis");
+        double narrowWidth = (double) narrow.get("medianCiUpperMillis") - (double) narrow.get("medianCiLowerMillis");
+        assertTrue(narrowWidth <= wideWidth);
+    }
+
+    @Test
+    void constantSampleHasADegenerateInterval() {
+        Map<String, Object> values = StartupStats.of(List.of(700L, 700L, 700L), 0.95).toMap();
+
+        assertEquals(0.0, values.get("stdDevMillis"));
+        assertEquals(700.0, values.get("medianCiLowerMillis"));
+        assertEquals(700.0, values.get("medianCiUpperMillis"));
+    }
+}
@@ -0,0 +1,237 @@
+package utils.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public final class ConfigSnapshot {
+
+    public static final String BASE_FILE_NAME = "config.properties";
+    public static final String PROFILE_KEY = "config.profile";
+    private static final String FALLBACK_DIRECTORY = "src/test/resources/";
+
+    private final Map<String, String> values;
+    private final List<String> sources;
+    private final String deviceName;
+    private final SessionSettings sessionSettings;
+    private final EvidenceSettings evidenceSettings;
+    private final Map<String, Optional<String>> unmergedOverrides = new ConcurrentHashMap<>();
+
+    private ConfigSnapshot(Map<String, String> values, List<String> sources, String deviceName) {
+        this.values = Collections.unmodifiableMap(values);
+        this.sources = Collections.unmodifiableList(sources);
+        this.deviceName = deviceName;
+        this.sessionSettings = new SessionSettings(this);
+        this.evidenceSettings = new EvidenceSettings(this);
+    }
+
+    public static ConfigSnapshot load(String deviceName) {
+        Map<String, String> merged = new HashMap<>();
+        List<String> sources = new ArrayList<>();
+
+        if (!mergeFile(BASE_FILE_NAME, merged, sources)) {
+            throw new RuntimeException("Error loading properties file: " + BASE_FILE_NAME + " was found neither on the classpath nor in " + FALLBACK_DIRECTORY);
+        }
+
+        for (String profile : resolveProfiles(merged)) {
+            mergeFile("config-" + profile + ".properties", merged, sources);
+        }
+        if (deviceName != null && !deviceName.isBlank()) {
+            mergeFile("config-device-" + toFileToken(deviceName) + ".properties", merged, sources);
+        }
+
+        for (String key : new ArrayList<>(merged.keySet())) {
+            String environmentValue = System.getenv(toEnvironmentName(key));
+            if (environmentValue != null) {
+                merged.put(key, environmentValue);
+            }
+            String systemValue = System.getProperty(key);
+            if (systemValue != null) {
+                merged.put(key, systemValue);
+            }
+        }
+        return new ConfigSnapshot(merged, sources, deviceName);
+    }
+
+    public String get(String key) {
+        String value = values.get(key);
+        return value != null ? value : unmergedOverrides.computeIfAbsent(key, ConfigSnapshot::readOverride).orElse(null);
+    }
+
+    public String get(String key, String defaultValue) {
+        String value = get(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public int getInt(String key, int defaultValue) {
+        String value = get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid integer for '" + key + "': " + value + ". Using " + defaultValue + ".");
+            return defaultValue;
+        }
+    }
+
+    public long getLong(String key, long defaultValue) {
+        String value = get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid number for '" + key + "': " + value + ". Using " + defaultValue + ".");
+            return defaultValue;
+        }
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        String value = get(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid number for '" + key + "': " + value + ". Using " + defaultValue + ".");
+            return defaultValue;
+        }
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = get(key);
+        return value == null || value.isBlank() ? defaultValue : Boolean.parseBoolean(value.trim());
+    }
+
+    public List<String> getList(String key) {
+        String value = get(key);
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    public SessionSettings getSessionSettings() {
+        return sessionSettings;
+    }
+
+    public EvidenceSettings getEvidenceSettings() {
+        return evidenceSettings;
+    }
+
+    public String getDeviceName() {
+        return deviceName;
+    }
+
+    public List<String> getSources() {
+        return sources;
+    }
+
+    private static Set<String> resolveProfiles(Map<String, String> merged) {
+        String profiles = System.getProperty(PROFILE_KEY);
+        if (profiles == null) {
+            profiles = System.getenv(toEnvironmentName(PROFILE_KEY));
+        }
+        if (profiles == null) {
+            profiles = merged.get(PROFILE_KEY);
+        }
+        if (profiles == null || profiles.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(profiles.split(","))
+                .map(String::trim)
+                .filter(profile -> !profile.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static boolean mergeFile(String fileName, Map<String, String> merged, List<String> sources) {
+        Properties properties = new Properties();
+        String source;
+        URL resource = ConfigSnapshot.class.getClassLoader().getResource(fileName);
+        try {
+            if (resource != null && isStaleCopy(resource, Paths.get(FALLBACK_DIRECTORY, fileName))) {
+                resource = null;
+            }
+            if (resource != null) {
+                try (InputStream input = resource.openStream()) {
+                    properties.load(input);
+                }
+                source = resource.toString();
+            } else {
+                Path fallbackPath = Paths.get(FALLBACK_DIRECTORY, fileName);
+                if (!Files.isRegularFile(fallbackPath)) {
+                    return false;
+                }
+                try (InputStream input = Files.newInputStream(fallbackPath)) {
+                    properties.load(input);
+                }
+                source = fallbackPath.toUri().toString();
+            }
+        } catch (IOException e) {
+            System.err.println("ERROR: Failed to load properties file '" + fileName + "'. Details: " + e.getMessage());
+            throw new RuntimeException("Error loading properties file: " + e.getMessage());
+        }
+        for (String key : properties.stringPropertyNames()) {
+            merged.put(key, properties.getProperty(key));
+        }
+        sources.add(source);
+        return true;
+    }
+
+    public static Path getSourceDirectory() {
+        return Paths.get(FALLBACK_DIRECTORY);
+    }
+
+    private static boolean isStaleCopy(URL resource, Path sourcePath) throws IOException {
+        if (!"file".equals(resource.getProtocol()) || !Files.isRegularFile(sourcePath)) {
+            return false;
+        }
+        try {
+            Path resourcePath = Paths.get(resource.toURI());
+            return !Files.isSameFile(resourcePath, sourcePath)
+                    && Files.getLastModifiedTime(sourcePath).compareTo(Files.getLastModifiedTime(resourcePath)) > 0;
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+
+    private static Optional<String> readOverride(String key) {
+        String systemValue = System.getProperty(key);
+        if (systemValue != null) {
+            return Optional.of(systemValue);
+        }
+        return Optional.ofNullable(System.getenv(toEnvironmentName(key)));
+    }
+
+    private static String toEnvironmentName(String key) {
+        return key.replaceAll("[^A-Za-z0-9]", "_").toUpperCase(Locale.ROOT);
+    }
+
+    private static String toFileToken(String deviceName) {
+        return deviceName.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+}
@@ -0,0 +1,56 @@
+package utils.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConfigSnapshotTest {
+
+    private static final String UNFILED_KEY = "config.snapshot.test.unfiled";
+    private static final String FILED_KEY = "visual.pixel.tolerance";
+
+    @AfterEach
+    void clearOverrides() {
+        System.clearProperty(UNFILED_KEY);
+        System.clearProperty(FILED_KEY);
+    }
+
+    @Test
+    void systemPropertyOverridesAKeyThatIsOnlyDefaultedInCode() {
+        System.setProperty(UNFILED_KEY, "42");
+        ConfigSnapshot snapshot = ConfigSnapshot.load(null);
+
+        assertEquals(42, snapshot.getInt(UNFILED_KEY, 7));
+        assertEquals(42L, snapshot.getLong(UNFILED_KEY, 7));
+        assertEquals("42", snapshot.get(UNFILED_KEY));
+    }
+
+    @Test
+    void unsetKeyFallsBackToTheCodeDefault() {
+        ConfigSnapshot snapshot = ConfigSnapshot.load(null);
+
+        assertEquals(7, snapshot.getInt(UNFILED_KEY, 7));
+        assertTrue(snapshot.getBoolean(UNFILED_KEY, true));
+        assertEquals(0, snapshot.getList(UNFILED_KEY).size());
+    }
+
+    @Test
+    void systemPropertyOverridesAFileValue() {
+        System.setProperty(FILED_KEY, "3");
+        ConfigSnapshot snapshot = ConfigSnapshot.load(null);
+
+        assertEquals(3, snapshot.getInt(FILED_KEY, 16));
+        assertEquals(3, snapshot.getEvidenceSettings().getPixelTolerance());
+    }
+
+    @Test
+    void invalidNumbersFallBackToTheDefault() {
+        System.setProperty(UNFILED_KEY, "not-a-number");
+        ConfigSnapshot snapshot = ConfigSnapshot.load(null);
+
+        assertEquals(5, snapshot.getInt(UNFILED_KEY, 5));
+        assertEquals(0.5, snapshot.getDouble(UNFILED_KEY, 0.5));
+    }
+}
@@ -0,0 +1,62 @@
+package utils.config;
+
+public final class EvidenceSettings {
+
+    private static final String DEFAULT_STORE_DIRECTORY = "target/evidence-store";
+    private static final String DEFAULT_BASELINE_DIRECTORY = "src/test/resources/baselines";
+    private static final int DEFAULT_PIXEL_TOLERANCE = 16;
+    private static final double DEFAULT_MAX_MISMATCH_RATIO = 0.001;
+    private static final long DEFAULT_SCREENSHOT_REUSE_MAX_AGE_MILLIS = 250;
+
+    private final String screenshotSource;
+    private final String storeDirectory;
+    private final boolean allureAttachmentsEnabled;
+    private final int pixelTolerance;
+    private final double maxMismatchRatio;
+    private final boolean baselineUpdate;
+    private final String baselineDirectory;
+    private final long screenshotReuseMaxAgeMillis;
+
+    EvidenceSettings(ConfigSnapshot snapshot) {
+        this.screenshotSource = snapshot.get("evidence.screenshot.source");
+        this.storeDirectory = snapshot.get("evidence.store.directory", DEFAULT_STORE_DIRECTORY);
+        this.allureAttachmentsEnabled = snapshot.getBoolean("evidence.allure.attachments.enabled", true);
+        this.pixelTolerance = snapshot.getInt("visual.pixel.tolerance", DEFAULT_PIXEL_TOLERANCE);
+        this.maxMismatchRatio = snapshot.getDouble("visual.max.mismatch.ratio", DEFAULT_MAX_MISMATCH_RATIO);
+        this.baselineUpdate = snapshot.getBoolean("visual.baseline.update", false);
+        this.baselineDirectory = snapshot.get("visual.baseline.directory", DEFAULT_BASELINE_DIRECTORY);
+        this.screenshotReuseMaxAgeMillis = snapshot.getLong("visual.screenshot.reuse.max.age.ms", DEFAULT_SCREENSHOT_REUSE_MAX_AGE_MILLIS);
+    }
+
+    public String getScreenshotSource() {
+        return screenshotSource;
+    }
+
+    public String getStoreDirectory() {
+        return storeDirectory;
+    }
+
+    public boolean isAllureAttachmentsEnabled() {
+        return allureAttachmentsEnabled;
+    }
+
+    public int getPixelTolerance() {
+        return pixelTolerance;
+    }
+
+    public double getMaxMismatchRatio() {
+        return maxMismatchRatio;
+    }
+
+    public boolean isBaselineUpdate() {
+        return baselineUpdate;
+    }
+
+    public String getBaselineDirectory() {
+        return baselineDirectory;
+    }
+
+    public long getScreenshotReuseMaxAgeMillis() {
+        return screenshotReuseMaxAgeMillis;
+    }
+}
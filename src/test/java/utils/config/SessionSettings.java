@@ -0,0 +1,58 @@
+package utils.config;
+
+public final class SessionSettings {
+
+    private static final int DEFAULT_SYSTEM_PORT_BASE = 8200;
+
+    private final String appiumServerUrl;
+    private final String platformName;
+    private final String deviceName;
+    private final String appPath;
+    private final String appPackage;
+    private final String appActivity;
+    private final boolean noReset;
+    private final int systemPortBase;
+
+    SessionSettings(ConfigSnapshot snapshot) {
+        this.appiumServerUrl = snapshot.get("appium.server.url");
+        this.platformName = snapshot.get("platform.name");
+        this.deviceName = snapshot.get("device.name");
+        this.appPath = snapshot.get("app.path");
+        this.appPackage = snapshot.get("app.package");
+        this.appActivity = snapshot.get("app.activity");
+        this.noReset = snapshot.getBoolean("no.reset", false);
+        this.systemPortBase = snapshot.getInt("device.system.port.base", DEFAULT_SYSTEM_PORT_BASE);
+    }
+
+    public String getAppiumServerUrl() {
+        return appiumServerUrl;
+    }
+
+    public String getPlatformName() {
+        return platformName;
+    }
+
+    public String getDeviceName() {
+        return deviceName;
+    }
+
+    public String getAppPath() {
+        return appPath;
+    }
+
+    public String getAppPackage() {
+        return appPackage;
+    }
+
+    public String getAppActivity() {
+        return appActivity;
+    }
+
+    public boolean isNoReset() {
+        return noReset;
+    }
+
+    public int getSystemPortBase() {
+        return systemPortBase;
+    }
+}
@@ -0,0 +1,84 @@
+package utils.data;
+
+import utils.ConfigReader;
+import utils.DriverManager;
+import utils.evidence.EvidenceRecorder;
+import utils.report.DataRowResult;
+import utils.report.TestReportData;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class DataRowRunner {
+
+    private static final int FAILURE_SUMMARY_LIMIT = 5;
+
+    public static void run(String dataTablePath, String labelColumn, Consumer<Map<String, String>> rowAction) {
+        TestReportData reportData = DriverManager.getReporter().getReportData();
+        EvidenceRecorder evidenceRecorder = DriverManager.getEvidenceRecorder();
+        int maxFailures = ConfigReader.getInt("data.matrix.max.failures", 0);
+
+        List<String> failedRows = new ArrayList<>();
+        int rowNumber = 0;
+        long startNanos = System.nanoTime();
+        reportData.markStep("Open data table " + dataTablePath);
+
+        try (DataTable dataTable = DataTable.open(dataTablePath)) {
+            while (dataTable.hasNext()) {
+                Map<String, String> row = dataTable.next();
+                rowNumber++;
+                String label = row.getOrDefault(labelColumn, row.values().stream().findFirst().orElse(""));
+
+                if (rowNumber > 1) {
+                    try {
+                        DriverManager.resetApp();
+                    } catch (Exception e) {
+                        throw new RuntimeException("App reset failed before data row " + rowNumber + " (" + label + ")", e);
+                    }
+                }
+
+                long rowStartNanos = System.nanoTime();
+                String failureMessage = null;
+                try {
+                    rowAction.accept(row);
+                } catch (Exception | AssertionError e) {
+                    failureMessage = e.getMessage() != null ? e.getMessage().lines().findFirst().orElse("") : e.getClass().getSimpleName();
+                }
+                long rowMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - rowStartNanos);
+                boolean passed = failureMessage == null;
+
+                if (evidenceRecorder != null) {
+                    evidenceRecorder.endDataRow("Row " + rowNumber + " (" + label + ")", !passed);
+                }
+                DataRowResult result = new DataRowResult(rowNumber, label, passed, rowMillis, failureMessage);
+                reportData.addDataRowResult(result);
+                reportData.markStep("Row " + rowNumber + " " + label);
+                System.out.println("Data row " + result.toDisplayLine());
+
+                if (!passed) {
+                    failedRows.add(result.toDisplayLine());
+                    if (maxFailures > 0 && failedRows.size() >= maxFailures) {
+                        System.err.println("Stopping data table after " + failedRows.size() + " failed row(s) (data.matrix.max.failures).");
+                        break;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading data table '" + dataTablePath + "'", e);
+        }
+
+        double elapsedMinutes = Math.max(1, System.nanoTime() - startNanos) / 60_000_000_000d;
+        System.out.println(String.format("Data table '%s': %d row(s), %d failed, %.1f rows/min on one session.",
+                dataTablePath, rowNumber, failedRows.size(), rowNumber / elapsedMinutes));
+
+        if (!failedRows.isEmpty()) {
+            throw new AssertionError(failedRows.size() + " of " + rowNumber + " data row(s) failed:" + System.lineSeparator()
+                    + String.join(System.lineSeparator(), failedRows.subList(0, Math.min(FAILURE_SUMMARY_LIMIT, failedRows.size())))
+                    + (failedRows.size() > FAILURE_SUMMARY_LIMIT ? System.lineSeparator() + "..." : ""));
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package utils.data;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+public class DataTable implements Iterator<Map<String, String>>, Closeable {
+
+    private static final String DEFAULT_SOURCE_DIRECTORY = "src/test/resources";
+    private static final Json JSON = new Json();
+
+    private final String source;
+    private final BufferedReader reader;
+    private final JsonInput jsonInput;
+    private final List<String> headers;
+    private Map<String, String> nextRow;
+    private int lineNumber;
+
+    private DataTable(String source, BufferedReader reader) throws IOException {
+        this.source = source;
+        this.reader = reader;
+        if (source.toLowerCase().endsWith(".json")) {
+            this.jsonInput = JSON.newInput(reader);
+            this.jsonInput.beginArray();
+            this.headers = List.of();
+        } else {
+            this.jsonInput = null;
+            String headerLine = readCsvLine();
+            if (headerLine == null) {
+                throw new IOException("Data table '" + source + "' is empty");
+            }
+            this.headers = parseCsvLine(headerLine.startsWith("\uFEFF") ? headerLine.substring(1) : headerLine);
+        }
+        this.nextRow = readRow();
+    }
+
+    public static DataTable open(String resourcePath) throws IOException {
+        InputStream input = DataTable.class.getClassLoader().getResourceAsStream(resourcePath);
+        if (input == null) {
+            Path sourcePath = Paths.get(DEFAULT_SOURCE_DIRECTORY, resourcePath);
+            if (!Files.isRegularFile(sourcePath)) {
+                sourcePath = Paths.get(resourcePath);
+            }
+            if (!Files.isRegularFile(sourcePath)) {
+                throw new IOException("Data table not found on the classpath or at " + sourcePath + ": " + resourcePath);
+            }
+            input = Files.newInputStream(sourcePath);
+        }
+        return new DataTable(resourcePath, new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextRow != null;
+    }
+
+    @Override
+    public Map<String, String> next() {
+        if (nextRow == null) {
+            throw new NoSuchElementException("No more rows in data table '" + source + "'");
+        }
+        Map<String, String> row = nextRow;
+        try {
+            nextRow = readRow();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error reading data table '" + source + "' after line " + lineNumber, e);
+        }
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (jsonInput != null) {
+            jsonInput.close();
+        }
+        reader.close();
+    }
+
+    private Map<String, String> readRow() throws IOException {
+        if (jsonInput != null) {
+            if (!jsonInput.hasNext()) {
+                return null;
+            }
+            Map<String, Object> values = jsonInput.read(Json.MAP_TYPE);
+            Map<String, String> row = new LinkedHashMap<>();
+            values.forEach((key, value) -> row.put(key, value != null ? String.valueOf(value) : null));
+            return row;
+        }
+
+        String line;
+        do {
+            line = readCsvLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank() || line.startsWith("#"));
+
+        List<String> values = parseCsvLine(line);
+        if (values.size() > headers.size()) {
+            throw new IOException("Line " + lineNumber + " of '" + source + "' has " + values.size() + " columns, expected " + headers.size());
+        }
+        Map<String, String> row = new LinkedHashMap<>();
+        for (int index = 0; index < headers.size(); index++) {
+            row.put(headers.get(index), index < values.size() ? values.get(index) : "");
+        }
+        return row;
+    }
+
+    private String readCsvLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    private List<String> parseCsvLine(String line) throws IOException {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldQuoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            char character = line.charAt(index);
+            if (quoted) {
+                if (character == '"' && index + 1 < line.length() && line.charAt(index + 1) == '"') {
+                    value.append('"');
+                    index++;
+                } else if (character == '"') {
+                    quoted = false;
+                } else {
+                    value.append(character);
+                }
+            } else if (character == '"') {
+                if (!fieldQuoted && value.toString().isBlank()) {
+                    value.setLength(0);
+                }
+                quoted = true;
+                fieldQuoted = true;
+            } else if (character == ',') {
+                values.add(fieldQuoted ? value.toString() : value.toString().trim());
+                value.setLength(0);
+                fieldQuoted = false;
+            } else if (!fieldQuoted || !Character.isWhitespace(character)) {
+                value.append(character);
+            }
+        }
+        if (quoted) {
+            throw new IOException("Line " + lineNumber + " of '" + source + "' has an unterminated quoted field. Quoted values cannot span lines");
+        }
+        values.add(fieldQuoted ? value.toString() : value.toString().trim());
+        return values;
+    }
+}
@@ -0,0 +1,100 @@
+package utils.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DataTableTest {
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void trimsUnquotedFieldsAndKeepsQuotedWhitespace() throws IOException {
+        List<Map<String, String>> rows = readAll("user,password\n  alice , \" padded \" \n");
+
+        assertEquals(List.of(Map.of("user", "alice", "password", " padded ")), rows);
+    }
+
+    @Test
+    void unescapesDoubledQuotesAndKeepsCommasInsideQuotes() throws IOException {
+        List<Map<String, String>> rows = readAll("name,note\n\"Smith, John\",\"say \"\"hi\"\"\"\n");
+
+        assertEquals("Smith, John", rows.get(0).get("name"));
+        assertEquals("say \"hi\"", rows.get(0).get("note"));
+    }
+
+    @Test
+    void stripsTheByteOrderMarkFromTheHeader() throws IOException {
+        List<Map<String, String>> rows = readAll("\uFEFFuser,password\nbob,secret\n");
+
+        assertEquals(List.of("user", "password"), new ArrayList<>(rows.get(0).keySet()));
+    }
+
+    @Test
+    void skipsBlankAndCommentLines() throws IOException {
+        List<Map<String, String>> rows = readAll("user\n\n# disabled\n   \ncarol\n");
+
+        assertEquals(List.of(Map.of("user", "carol")), rows);
+    }
+
+    @Test
+    void padsMissingColumnsWithEmptyValues() throws IOException {
+        List<Map<String, String>> rows = readAll("user,password,role\ndave\n");
+
+        assertEquals("", rows.get(0).get("password"));
+        assertEquals("", rows.get(0).get("role"));
+    }
+
+    @Test
+    void rejectsRowsWithTooManyColumns() {
+        UncheckedIOException error = assertThrows(UncheckedIOException.class, () -> readAll("user\nerin\nfrank,extra\n"));
+
+        assertTrue(error.getCause().getMessage().contains("Line 3"));
+        assertTrue(error.getCause().getMessage().contains("has 2 columns, expected 1"));
+    }
+
+    @Test
+    void rejectsQuotedFieldsThatSpanLines() {
+        IOException error = assertThrows(IOException.class, () -> readAll("user,note\ngrace,\"first\nsecond\"\n"));
+
+        assertTrue(error.getMessage().contains("Line 2"));
+        assertTrue(error.getMessage().contains("unterminated quoted field"));
+    }
+
+    @Test
+    void readsJsonArrays() throws IOException {
+        Path jsonFile = tempDirectory.resolve("rows.json");
+        Files.writeString(jsonFile, "[{\"user\":\"heidi\",\"age\":30},{\"user\":\" ivan \"}]", StandardCharsets.UTF_8);
+
+        List<Map<String, String>> rows = new ArrayList<>();
+        try (DataTable table = DataTable.open(jsonFile.toString())) {
+            table.forEachRemaining(rows::add);
+        }
+
+        assertEquals("30", rows.get(0).get("age"));
+        assertEquals(" ivan ", rows.get(1).get("user"));
+    }
+
+    private List<Map<String, String>> readAll(String csvContent) throws IOException {
+        Path csvFile = tempDirectory.resolve("rows.csv");
+        Files.writeString(csvFile, csvContent, StandardCharsets.UTF_8);
+        List<Map<String, String>> rows = new ArrayList<>();
+        try (DataTable table = DataTable.open(csvFile.toString())) {
+            table.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,20 @@
+package utils.evidence;
+
+public enum CaptureMode {
+    ALWAYS,
+    FAILURE_ONLY,
+    SAMPLED,
+    RECORDING;
+
+    public static CaptureMode fromConfig(String value) {
+        if (value == null || value.isBlank()) {
+            return ALWAYS;
+        }
+        try {
+            return CaptureMode.valueOf(value.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown evidence capture mode '" + value + "'. Falling back to ALWAYS.");
+            return ALWAYS;
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package utils.evidence;
+
+import io.appium.java_client.android.AndroidDriver;
+import utils.ConfigReader;
+import utils.report.TestReporter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class EvidenceRecorder {
+
+    private static final int DEFAULT_BUFFER_SIZE = 5;
+    private static final int DEFAULT_SAMPLE_RATE = 3;
+
+    private final TestReporter reporter;
+    private CaptureMode captureMode;
+    private final int bufferSize;
+    private final int sampleRate;
+    private final Deque<BufferedEvidence> ringBuffer;
+    private final List<RecordingMarker> recordingMarkers = new ArrayList<>();
+    private final ScreenRecording screenRecording = new ScreenRecording();
+    private final ReentrantLock captureLock = new ReentrantLock();
+    private final Map<AndroidDriver, LastScreenshot> lastScreenshots = new ConcurrentHashMap<>();
+    private final long screenshotReuseMaxAgeNanos = TimeUnit.MILLISECONDS.toNanos(ConfigReader.evidence().getScreenshotReuseMaxAgeMillis());
+    private int stepCount;
+
+    public EvidenceRecorder(TestReporter reporter, CaptureMode captureMode, int bufferSize, int sampleRate) {
+        this.reporter = reporter;
+        this.captureMode = captureMode;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.sampleRate = Math.max(1, sampleRate);
+        this.ringBuffer = new ArrayDeque<>(this.bufferSize);
+    }
+
+    public static EvidenceRecorder fromConfig(TestReporter reporter, Collection<String> tags) {
+        String mode = ConfigReader.getProperty(resolveKeyForTags("evidence.capture.mode", tags));
+        int bufferSize = ConfigReader.getInt(resolveKeyForTags("evidence.buffer.size", tags), DEFAULT_BUFFER_SIZE);
+        int sampleRate = ConfigReader.getInt(resolveKeyForTags("evidence.sample.rate", tags), DEFAULT_SAMPLE_RATE);
+
+        EvidenceRecorder recorder = new EvidenceRecorder(reporter, CaptureMode.fromConfig(mode), bufferSize, sampleRate);
+        System.out.println("Evidence capture mode: " + recorder.captureMode
+                + (recorder.captureMode == CaptureMode.FAILURE_ONLY ? " (last " + recorder.bufferSize + " screenshots)" : "")
+                + (recorder.captureMode == CaptureMode.SAMPLED ? " (every " + recorder.sampleRate + " steps)" : ""));
+        return recorder;
+    }
+
+    public CaptureMode getCaptureMode() {
+        return captureMode;
+    }
+
+    public byte[] getLastScreenshot(AndroidDriver driver) {
+        LastScreenshot lastScreenshot = lastScreenshots.get(driver);
+        if (lastScreenshot == null || System.nanoTime() - lastScreenshot.capturedNanos > screenshotReuseMaxAgeNanos) {
+            return null;
+        }
+        return lastScreenshot.screenshotBytes;
+    }
+
+    public byte[] rememberScreenshot(AndroidDriver driver, byte[] screenshotBytes) {
+        lastScreenshots.put(driver, new LastScreenshot(screenshotBytes, System.nanoTime()));
+        return screenshotBytes;
+    }
+
+    public void forgetLastScreenshot(AndroidDriver driver) {
+        lastScreenshots.remove(driver);
+    }
+
+    public void startRecording(AndroidDriver driver) {
+        if (captureMode != CaptureMode.RECORDING) {
+            return;
+        }
+        try {
+            screenRecording.start(driver);
+        } catch (Exception e) {
+            System.err.println("Error starting screen recording, falling back to ALWAYS capture mode: " + e.getMessage());
+            captureMode = CaptureMode.ALWAYS;
+        }
+    }
+
+    public void stopRecording(AndroidDriver driver) {
+        if (!screenRecording.isRecording()) {
+            return;
+        }
+        Path videoFilePath = Paths.get(reporter.getArtifactPathPrefix() + "_recording.mp4");
+        try {
+            screenRecording.stop(driver, videoFilePath);
+            EvidenceStore.attachToAllure("Screen recording", videoFilePath);
+        } catch (Exception e) {
+            System.err.println("Error stopping screen recording: " + e.getMessage());
+        }
+    }
+
+    public void capture(String name, Supplier<byte[]> screenshotSupplier) {
+        CaptureMode stepCaptureMode;
+        captureLock.lock();
+        try {
+            stepCount++;
+            stepCaptureMode = captureMode;
+
+            if (stepCaptureMode == CaptureMode.RECORDING) {
+                long offsetMillis = screenRecording.elapsedMillis();
+                recordingMarkers.add(new RecordingMarker(name, offsetMillis));
+                System.out.println("Evidence '" + name + "' marked at " + offsetMillis + " ms of the screen recording.");
+                return;
+            }
+            if (stepCaptureMode == CaptureMode.SAMPLED && (stepCount - 1) % sampleRate != 0) {
+                System.out.println("Evidence '" + name + "' skipped by sampling (step " + stepCount + ").");
+                return;
+            }
+        } finally {
+            captureLock.unlock();
+        }
+
+        byte[] screenshotBytes = screenshotSupplier.get();
+
+        if (stepCaptureMode != CaptureMode.FAILURE_ONLY) {
+            reporter.addScreenshot(screenshotBytes, name);
+            return;
+        }
+        captureLock.lock();
+        try {
+            if (ringBuffer.size() == bufferSize) {
+                ringBuffer.removeFirst();
+            }
+            ringBuffer.addLast(new BufferedEvidence(name, screenshotBytes));
+        } finally {
+            captureLock.unlock();
+        }
+    }
+
+    public void endDataRow(String rowName, boolean rowFailed) {
+        captureLock.lock();
+        try {
+            if (captureMode == CaptureMode.FAILURE_ONLY && rowFailed) {
+                for (BufferedEvidence evidence : ringBuffer) {
+                    reporter.addScreenshot(evidence.screenshotBytes, rowName + " - " + evidence.name);
+                }
+            }
+            ringBuffer.clear();
+        } finally {
+            captureLock.unlock();
+        }
+    }
+
+    public void finish(boolean testFailed) {
+        if (captureMode == CaptureMode.RECORDING) {
+            extractRecordingFrames();
+        }
+        if (captureMode == CaptureMode.FAILURE_ONLY && testFailed) {
+            System.out.println("Test failed. Writing the last " + ringBuffer.size() + " buffered screenshots to the report.");
+            for (BufferedEvidence evidence : ringBuffer) {
+                reporter.addScreenshot(evidence.screenshotBytes, evidence.name);
+            }
+        }
+        ringBuffer.clear();
+        lastScreenshots.clear();
+    }
+
+    private void extractRecordingFrames() {
+        for (RecordingMarker marker : recordingMarkers) {
+            try {
+                reporter.addScreenshot(screenRecording.extractFrame(marker.offsetMillis), marker.name);
+            } catch (IOException e) {
+                System.err.println("Error extracting keyframe for evidence '" + marker.name + "': " + e.getMessage()
+                        + ". Remaining keyframes skipped; see the saved screen recording.");
+                break;
+            }
+        }
+        recordingMarkers.clear();
+    }
+
+    private static String resolveKeyForTags(String key, Collection<String> tags) {
+        for (String tag : tags) {
+            String tagValue = ConfigReader.getProperty(key + "." + tag);
+            if (tagValue != null && !tagValue.isBlank()) {
+                return key + "." + tag;
+            }
+        }
+        return key;
+    }
+
+    private static class BufferedEvidence {
+        private final String name;
+        private final byte[] screenshotBytes;
+
+        private BufferedEvidence(String name, byte[] screenshotBytes) {
+            this.name = name;
+            this.screenshotBytes = screenshotBytes;
+        }
+    }
+
+    private static class LastScreenshot {
+        private final byte[] screenshotBytes;
+        private final long capturedNanos;
+
+        private LastScreenshot(byte[] screenshotBytes, long capturedNanos) {
+            this.screenshotBytes = screenshotBytes;
+            this.capturedNanos = capturedNanos;
+        }
+    }
+
+    private static class RecordingMarker {
+        private final String name;
+        private final long offsetMillis;
+
+        private RecordingMarker(String name, long offsetMillis) {
+            this.name = name;
+            this.offsetMillis = offsetMillis;
+        }
+    }
+}
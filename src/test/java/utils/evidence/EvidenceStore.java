@@ -0,0 +1,144 @@
+package utils.evidence;
+
+import io.qameta.allure.Allure;
+import utils.ConfigReader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class EvidenceStore {
+
+    private static final String DEFAULT_ALLURE_RESULTS_DIRECTORY = "allure-results";
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "evidence-store");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public static Path store(byte[] content, String extension) throws IOException {
+        String hash = sha256(content);
+        Path storeDirectory = Paths.get(ConfigReader.evidence().getStoreDirectory(), hash.substring(0, 2));
+        Path storedPath = storeDirectory.resolve(hash + "." + extension);
+        if (Files.exists(storedPath)) {
+            return storedPath;
+        }
+
+        Files.createDirectories(storeDirectory);
+        Path tempPath = Files.createTempFile(storeDirectory, hash, ".tmp");
+        try {
+            Files.write(tempPath, content);
+            Files.move(tempPath, storedPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(tempPath);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempPath);
+            if (!Files.exists(storedPath)) {
+                throw e;
+            }
+        }
+        return storedPath;
+    }
+
+    public static Path storeScreenshot(byte[] screenshotBytes) throws IOException {
+        return store(screenshotBytes, extensionOf(screenshotBytes));
+    }
+
+    public static String extensionOf(byte[] screenshotBytes) {
+        boolean jpeg = screenshotBytes.length > 2 && (screenshotBytes[0] & 0xFF) == 0xFF && (screenshotBytes[1] & 0xFF) == 0xD8;
+        return jpeg ? "jpg" : "png";
+    }
+
+    public static void linkInto(Path storedPath, Path targetPath) throws IOException {
+        try {
+            Files.createLink(targetPath, storedPath);
+        } catch (FileAlreadyExistsException e) {
+            throw e;
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(storedPath, targetPath);
+        }
+    }
+
+    public static boolean isAllureAttachmentEnabled() {
+        return ConfigReader.evidence().isAllureAttachmentsEnabled()
+                && Allure.getLifecycle().getCurrentTestCase().isPresent();
+    }
+
+    public static CompletableFuture<Void> attachScreenshotToAllureAsync(String name, byte[] screenshotBytes) {
+        if (!isAllureAttachmentEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        String extension = extensionOf(screenshotBytes);
+        String source = Allure.getLifecycle().prepareAttachment(name, mimeTypeOf(extension), "." + extension);
+        return CompletableFuture.runAsync(() -> {
+            try {
+                linkIntoAllureResults(name, storeScreenshot(screenshotBytes), source);
+            } catch (IOException e) {
+                System.err.println("Error storing screenshot '" + name + "' for Allure: " + e.getMessage());
+            }
+        }, EXECUTOR);
+    }
+
+    public static void attachTextToAllure(String name, String text) {
+        if (text == null || text.isEmpty() || !isAllureAttachmentEnabled()) {
+            return;
+        }
+        try {
+            attachToAllure(name, store(text.getBytes(StandardCharsets.UTF_8), "txt"));
+        } catch (IOException e) {
+            System.err.println("Error storing '" + name + "' for Allure: " + e.getMessage());
+        }
+    }
+
+    public static void attachToAllure(String name, Path storedPath) {
+        if (!isAllureAttachmentEnabled()) {
+            return;
+        }
+        String fileName = storedPath.getFileName().toString();
+        String extension = fileName.substring(fileName.lastIndexOf('.') + 1);
+        String source = Allure.getLifecycle().prepareAttachment(name, mimeTypeOf(extension), "." + extension);
+        linkIntoAllureResults(name, storedPath, source);
+    }
+
+    private static void linkIntoAllureResults(String name, Path storedPath, String source) {
+        try {
+            Path resultsDirectory = Paths.get(System.getProperty("allure.results.directory", DEFAULT_ALLURE_RESULTS_DIRECTORY));
+            Files.createDirectories(resultsDirectory);
+            linkInto(storedPath, resultsDirectory.resolve(source));
+        } catch (IOException e) {
+            System.err.println("Error linking '" + name + "' into Allure results: " + e.getMessage());
+        }
+    }
+
+    private static String mimeTypeOf(String extension) {
+        switch (extension) {
+            case "jpg":
+                return "image/jpeg";
+            case "png":
+                return "image/png";
+            case "mp4":
+                return "video/mp4";
+            default:
+                return "text/plain";
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package utils.evidence;
+
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.logging.LogEntry;
+import utils.ConfigReader;
+import utils.LogCapture;
+import utils.report.TestReporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+public class FailureSnapshot {
+
+    private static final long DEFAULT_TIMEOUT_SECONDS = 10;
+    private static final int DEFAULT_LOGCAT_LINES = 200;
+    private static final String LOGCAT_LOG_TYPE = "logcat";
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "failure-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("failure.capture.enabled", true);
+    }
+
+    public static void capture(AndroidDriver driver, TestReporter reporter) {
+        long timeoutSeconds = ConfigReader.getLong("failure.capture.timeout.seconds", DEFAULT_TIMEOUT_SECONDS);
+        int logcatLines = (int) ConfigReader.getLong("failure.capture.logcat.lines", DEFAULT_LOGCAT_LINES);
+
+        System.out.println("Test failed. Capturing failure snapshot (budget " + timeoutSeconds + "s)...");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        Future<byte[]> screenshotFuture = EXECUTOR.submit(LogCapture.withCurrentBuffer(() -> driver.getScreenshotAs(OutputType.BYTES)));
+        Future<String> pageSourceFuture = EXECUTOR.submit(LogCapture.withCurrentBuffer(driver::getPageSource));
+        LogcatCollector logcatCollector = LogcatCollector.forDriver(driver);
+        Future<String> logcatFuture = logcatCollector != null
+                ? CompletableFuture.completedFuture(logcatCollector.snapshot())
+                : EXECUTOR.submit(LogCapture.withCurrentBuffer(logcatTail(driver, logcatLines)));
+
+        byte[] screenshotBytes = await(screenshotFuture, deadline, "screenshot");
+        String pageSource = await(pageSourceFuture, deadline, "page source");
+        String logcat = await(logcatFuture, deadline, "logcat");
+
+        Path snapshotDirPath = Paths.get(reporter.getArtifactPathPrefix() + "_failure");
+        try {
+            Files.createDirectories(snapshotDirPath);
+            if (screenshotBytes != null) {
+                Files.write(snapshotDirPath.resolve("screenshot.png"), screenshotBytes);
+            }
+            if (pageSource != null) {
+                Files.writeString(snapshotDirPath.resolve("page-source.xml"), pageSource, StandardCharsets.UTF_8);
+            }
+            if (logcat != null) {
+                Files.writeString(snapshotDirPath.resolve("logcat.txt"), logcat, StandardCharsets.UTF_8);
+            }
+            System.out.println("Failure snapshot saved at: " + snapshotDirPath);
+        } catch (IOException e) {
+            System.err.println("Error writing failure snapshot to '" + snapshotDirPath + "': " + e.getMessage());
+        }
+
+        if (screenshotBytes != null) {
+            reporter.addScreenshot(screenshotBytes, "Failure snapshot");
+        }
+        if (logcat != null) {
+            reporter.getReportData().setDeviceLogsContent(logcat);
+        }
+    }
+
+    private static Callable<String> logcatTail(AndroidDriver driver, int lines) {
+        return () -> {
+            List<LogEntry> entries = driver.manage().logs().get(LOGCAT_LOG_TYPE).getAll();
+            return entries.subList(Math.max(0, entries.size() - lines), entries.size()).stream()
+                    .map(LogEntry::getMessage)
+                    .collect(Collectors.joining(System.lineSeparator()));
+        };
+    }
+
+    private static <T> T await(Future<T> future, long deadline, String description) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            System.err.println("Failure snapshot " + description + " exceeded the time budget and was skipped.");
+        } catch (ExecutionException e) {
+            System.err.println("Error capturing failure snapshot " + description + ": " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,159 @@
+package utils.evidence;
+
+import io.appium.java_client.android.AndroidDriver;
+import utils.ConfigReader;
+import utils.LogCapture;
+import utils.config.SessionSettings;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class LogcatCollector {
+
+    private static final int DEFAULT_BUFFER_LINES = 5000;
+    private static final int DEFAULT_TAIL_LINES = 200;
+    private static final Pattern THREADTIME_PID = Pattern.compile("^\\S+\\s+\\S+\\s+(\\d+)\\s+\\d+\\s");
+    private static final Pattern START_PROC = Pattern.compile("Start proc (\\d+):([\\w.]+)");
+    private static final Map<String, LogcatCollector> ACTIVE_COLLECTORS = new ConcurrentHashMap<>();
+
+    private final String appPackage;
+    private final int capacity;
+    private final ArrayDeque<String> lines;
+    private final Set<String> appPids = ConcurrentHashMap.newKeySet();
+    private long droppedLines;
+    private volatile ByteArrayOutputStream logBuffer = LogCapture.getCurrentBuffer();
+
+    private LogcatCollector(String appPackage, int capacity) {
+        this.appPackage = appPackage;
+        this.capacity = Math.max(1, capacity);
+        this.lines = new ArrayDeque<>(Math.min(this.capacity, 1024));
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("logcat.stream.enabled", true);
+    }
+
+    public static void start(AndroidDriver driver, SessionSettings sessionSettings) {
+        if (!isEnabled()) {
+            return;
+        }
+        LogcatCollector collector = new LogcatCollector(sessionSettings.getAppPackage(), ConfigReader.getInt("logcat.buffer.lines", DEFAULT_BUFFER_LINES));
+        try {
+            collector.lookUpAppPid(driver);
+            driver.addLogcatMessagesListener(collector::accept);
+            driver.addLogcatErrorsListener(collector::reportError);
+            URL serverUrl = URI.create(sessionSettings.getAppiumServerUrl()).toURL();
+            driver.startLogcatBroadcast(serverUrl.getHost(), serverUrl.getPort() > 0 ? serverUrl.getPort() : serverUrl.getDefaultPort());
+            ACTIVE_COLLECTORS.put(driver.getSessionId().toString(), collector);
+        } catch (Exception e) {
+            System.err.println("Could not start logcat streaming, device logs will not be collected: " + e.getMessage());
+            driver.removeAllLogcatListeners();
+        }
+    }
+
+    public static LogcatCollector forDriver(AndroidDriver driver) {
+        if (driver == null || driver.getSessionId() == null) {
+            return null;
+        }
+        return ACTIVE_COLLECTORS.get(driver.getSessionId().toString());
+    }
+
+    public static void stop(AndroidDriver driver) {
+        if (driver.getSessionId() == null || ACTIVE_COLLECTORS.remove(driver.getSessionId().toString()) == null) {
+            return;
+        }
+        try {
+            driver.stopLogcatBroadcast();
+        } catch (Exception e) {
+            System.err.println("Error stopping logcat streaming: " + e.getMessage());
+        } finally {
+            driver.removeAllLogcatListeners();
+        }
+    }
+
+    public synchronized void reset() {
+        lines.clear();
+        droppedLines = 0;
+        logBuffer = LogCapture.getCurrentBuffer();
+    }
+
+    public synchronized String tail(int lineCount) {
+        List<String> tail = new ArrayList<>(Math.min(lineCount, lines.size()));
+        int skip = Math.max(0, lines.size() - lineCount);
+        int index = 0;
+        for (String line : lines) {
+            if (index++ >= skip) {
+                tail.add(line);
+            }
+        }
+        return String.join(System.lineSeparator(), tail);
+    }
+
+    public synchronized String snapshot() {
+        String header = droppedLines > 0 ? "[" + droppedLines + " earlier line(s) dropped from the ring buffer]" + System.lineSeparator() : "";
+        return header + String.join(System.lineSeparator(), lines);
+    }
+
+    public String reportContent(boolean testFailed) {
+        return testFailed ? snapshot() : tail(ConfigReader.getInt("logcat.report.tail.lines", DEFAULT_TAIL_LINES));
+    }
+
+    private void accept(String line) {
+        Matcher startProc = START_PROC.matcher(line);
+        if (startProc.find() && startProc.group(2).equals(appPackage)) {
+            appPids.add(startProc.group(1));
+        }
+        if (!isAppLine(line)) {
+            return;
+        }
+        synchronized (this) {
+            if (lines.size() == capacity) {
+                lines.removeFirst();
+                droppedLines++;
+            }
+            lines.addLast(line);
+        }
+    }
+
+    private void reportError(Throwable error) {
+        LogCapture.attach(logBuffer);
+        try {
+            System.err.println("Logcat stream error: " + error.getMessage());
+        } finally {
+            LogCapture.detach();
+        }
+    }
+
+    private boolean isAppLine(String line) {
+        if (appPackage == null || appPackage.isBlank() || line.contains(appPackage)) {
+            return true;
+        }
+        Matcher pid = THREADTIME_PID.matcher(line);
+        return pid.find() && appPids.contains(pid.group(1));
+    }
+
+    private void lookUpAppPid(AndroidDriver driver) {
+        if (appPackage == null || appPackage.isBlank()) {
+            return;
+        }
+        try {
+            Object output = driver.executeScript("mobile: shell", Map.of("command", "pidof", "args", List.of(appPackage)));
+            for (String pid : String.valueOf(output).trim().split("\\s+")) {
+                if (pid.matches("\\d+")) {
+                    appPids.add(pid);
+                }
+            }
+        } catch (Exception e) {
+            System.out.println("App pid lookup unavailable (" + e.getMessage().lines().findFirst().orElse("") + "). Filtering logcat by package name and process starts.");
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package utils.evidence;
+
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.android.AndroidStartScreenRecordingOptions;
+import utils.ConfigReader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+public class ScreenRecording {
+
+    private static final long DEFAULT_TIME_LIMIT_SECONDS = 1800;
+    private static final long FFMPEG_TIMEOUT_SECONDS = 30;
+
+    private long recordingStartNanos;
+    private boolean recording;
+    private Path videoFilePath;
+
+    public void start(AndroidDriver driver) {
+        AndroidStartScreenRecordingOptions options = new AndroidStartScreenRecordingOptions()
+                .withTimeLimit(Duration.ofSeconds(ConfigReader.getLong("evidence.recording.time.limit.seconds", DEFAULT_TIME_LIMIT_SECONDS)));
+
+        String videoSize = ConfigReader.getProperty("evidence.recording.video.size");
+        if (videoSize != null && !videoSize.isBlank()) {
+            options.withVideoSize(videoSize.trim());
+        }
+
+        driver.startRecordingScreen(options);
+        recordingStartNanos = System.nanoTime();
+        recording = true;
+        System.out.println("Screen recording started for evidence capture.");
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public long elapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - recordingStartNanos);
+    }
+
+    public void stop(AndroidDriver driver, Path videoFilePath) throws IOException {
+        if (!recording) {
+            return;
+        }
+        recording = false;
+
+        String base64Video = driver.stopRecordingScreen();
+        Files.createDirectories(videoFilePath.toAbsolutePath().getParent());
+        Files.write(videoFilePath, Base64.getMimeDecoder().decode(base64Video));
+        this.videoFilePath = videoFilePath;
+        System.out.println("Screen recording saved at: " + videoFilePath);
+    }
+
+    public byte[] extractFrame(long offsetMillis) throws IOException {
+        if (videoFilePath == null) {
+            throw new IOException("No screen recording available for frame extraction");
+        }
+
+        String ffmpegPath = ConfigReader.getProperty("evidence.ffmpeg.path");
+        ProcessBuilder processBuilder = new ProcessBuilder(
+                ffmpegPath != null && !ffmpegPath.isBlank() ? ffmpegPath.trim() : "ffmpeg",
+                "-v", "error",
+                "-ss", String.format(Locale.ROOT, "%.3f", offsetMillis / 1000.0),
+                "-i", videoFilePath.toString(),
+                "-frames:v", "1",
+                "-f", "image2pipe",
+                "-vcodec", "png",
+                "pipe:1");
+        processBuilder.redirectError(ProcessBuilder.Redirect.DISCARD);
+        Path framePath = Files.createTempFile("evidence-frame", ".png");
+        processBuilder.redirectOutput(framePath.toFile());
+        Process process = processBuilder.start();
+
+        try {
+            if (!process.waitFor(FFMPEG_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IOException("ffmpeg did not finish extracting the frame at " + offsetMillis + " ms");
+            }
+            byte[] frame = Files.readAllBytes(framePath);
+            if (process.exitValue() != 0 || frame.length == 0) {
+                throw new IOException("ffmpeg failed to extract the frame at " + offsetMillis + " ms (exit code " + process.exitValue() + ")");
+            }
+            return frame;
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while extracting frame at " + offsetMillis + " ms", e);
+        } finally {
+            Files.deleteIfExists(framePath);
+        }
+    }
+}
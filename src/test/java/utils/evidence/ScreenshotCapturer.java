@@ -0,0 +1,101 @@
+package utils.evidence;
+
+import io.appium.java_client.Setting;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.android.options.UiAutomator2Options;
+import org.openqa.selenium.OutputType;
+import utils.ConfigReader;
+import utils.config.ConfigSnapshot;
+import utils.parallel.DeviceContext;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+
+public class ScreenshotCapturer {
+
+    private static final int DEFAULT_MJPEG_PORT = 7810;
+    private static final int DEFAULT_SCALING_FACTOR = 25;
+    private static final int DEFAULT_QUALITY = 50;
+    private static final int CONNECT_TIMEOUT_MILLIS = 2000;
+    private static final int READ_TIMEOUT_MILLIS = 5000;
+    private static final int MAX_FRAME_BYTES = 8 * 1024 * 1024;
+
+    public static ScreenshotSource getSource() {
+        return ScreenshotSource.fromConfig(ConfigReader.evidence().getScreenshotSource());
+    }
+
+    public static void applyCapabilities(UiAutomator2Options options, ConfigSnapshot settings, int slotIndex) {
+        if (getSource() == ScreenshotSource.MJPEG) {
+            options.setMjpegServerPort(getMjpegPort(settings, slotIndex));
+        }
+    }
+
+    public static void applySettings(AndroidDriver driver) {
+        if (getSource() != ScreenshotSource.MJPEG) {
+            return;
+        }
+        try {
+            driver.setSetting(Setting.MJPEG_SCALING_FACTOR, ConfigReader.getInt("evidence.mjpeg.scaling.factor", DEFAULT_SCALING_FACTOR));
+            driver.setSetting(Setting.MJPEG_SERVER_SCREENSHOT_QUALITY, ConfigReader.getInt("evidence.mjpeg.quality", DEFAULT_QUALITY));
+        } catch (Exception e) {
+            System.err.println("Error applying MJPEG screenshot settings: " + e.getMessage());
+        }
+    }
+
+    public static byte[] capture(AndroidDriver driver) {
+        if (getSource() == ScreenshotSource.MJPEG) {
+            try {
+                return grabMjpegFrame();
+            } catch (IOException e) {
+                System.err.println("Error reading scaled MJPEG frame, falling back to full screenshot: " + e.getMessage());
+            }
+        }
+        return driver.getScreenshotAs(OutputType.BYTES);
+    }
+
+    private static byte[] grabMjpegFrame() throws IOException {
+        ConfigSnapshot settings = ConfigReader.forDevice(DeviceContext.getDeviceName());
+        String serverHost = URI.create(settings.getSessionSettings().getAppiumServerUrl()).getHost();
+        URL mjpegUrl = URI.create("http://" + serverHost + ":" + getMjpegPort(settings, DeviceContext.getSlotIndex()) + "/").toURL();
+
+        HttpURLConnection connection = (HttpURLConnection) mjpegUrl.openConnection();
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        try (InputStream input = new BufferedInputStream(connection.getInputStream())) {
+            ByteArrayOutputStream frame = new ByteArrayOutputStream();
+            boolean inFrame = false;
+            int previous = -1;
+            int current;
+            while ((current = input.read()) != -1) {
+                if (!inFrame) {
+                    if (previous == 0xFF && current == 0xD8) {
+                        inFrame = true;
+                        frame.write(0xFF);
+                        frame.write(0xD8);
+                    }
+                } else {
+                    frame.write(current);
+                    if (previous == 0xFF && current == 0xD9) {
+                        return frame.toByteArray();
+                    }
+                    if (frame.size() > MAX_FRAME_BYTES) {
+                        throw new IOException("MJPEG frame exceeded " + MAX_FRAME_BYTES + " bytes without an end marker");
+                    }
+                }
+                previous = current;
+            }
+            throw new IOException("MJPEG stream ended before a complete frame was received");
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    private static int getMjpegPort(ConfigSnapshot settings, int slotIndex) {
+        return settings.getInt("evidence.mjpeg.port", DEFAULT_MJPEG_PORT) + slotIndex;
+    }
+}
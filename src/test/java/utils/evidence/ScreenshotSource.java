@@ -0,0 +1,18 @@
+package utils.evidence;
+
+public enum ScreenshotSource {
+    FULL,
+    MJPEG;
+
+    public static ScreenshotSource fromConfig(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        try {
+            return ScreenshotSource.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown screenshot source '" + value + "'. Falling back to FULL.");
+            return FULL;
+        }
+    }
+}
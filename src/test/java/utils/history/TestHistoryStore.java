@@ -0,0 +1,183 @@
+package utils.history;
+
+import utils.ConfigReader;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+
+public class TestHistoryStore {
+
+    private static final String DEFAULT_STORE_PATH = ".test-history/durations.log";
+    private static final int DEFAULT_MAX_ENTRIES_PER_TEST = 50;
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private static TestHistoryStore instance;
+
+    private final Path storeFilePath;
+    private final Path lockFilePath;
+    private final int maxEntriesPerTest;
+    private final Map<String, Deque<Execution>> executionsByTest = new HashMap<>();
+    private long storedLineCount;
+
+    TestHistoryStore(Path storeFilePath, int maxEntriesPerTest) {
+        this.storeFilePath = storeFilePath;
+        this.lockFilePath = storeFilePath.resolveSibling(storeFilePath.getFileName() + ".lock");
+        this.maxEntriesPerTest = maxEntriesPerTest;
+        if (Files.exists(storeFilePath)) {
+            try {
+                storedLineCount = load(executionsByTest);
+            } catch (IOException e) {
+                System.err.println("Error loading test history from '" + storeFilePath + "': " + e.getMessage());
+            }
+        }
+    }
+
+    public static synchronized TestHistoryStore getInstance() {
+        if (instance == null) {
+            String storePath = ConfigReader.getProperty("history.store.path");
+            instance = new TestHistoryStore(
+                    Paths.get(storePath == null || storePath.isBlank() ? DEFAULT_STORE_PATH : storePath.trim()),
+                    Math.max(1, ConfigReader.getInt("history.max.entries.per.test", DEFAULT_MAX_ENTRIES_PER_TEST)));
+        }
+        return instance;
+    }
+
+    public synchronized void record(String testCode, long durationMillis, String status) {
+        Execution execution = new Execution(System.currentTimeMillis(), durationMillis, status);
+        remember(executionsByTest, testCode, execution);
+
+        String line = testCode + FIELD_SEPARATOR + execution.timestampMillis + FIELD_SEPARATOR
+                + execution.durationMillis + FIELD_SEPARATOR + execution.status + System.lineSeparator();
+        try {
+            Files.createDirectories(storeFilePath.toAbsolutePath().getParent());
+            try (FileChannel lockChannel = openLockChannel()) {
+                lockChannel.lock();
+                Files.write(storeFilePath, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            storedLineCount++;
+
+            if (storedLineCount > 2L * maxEntriesPerTest * Math.max(1, executionsByTest.size())) {
+                compact();
+            }
+        } catch (IOException e) {
+            System.err.println("Error recording test history in '" + storeFilePath + "': " + e.getMessage());
+        }
+    }
+
+    public synchronized OptionalLong percentile(String testCode, double percentile) {
+        Deque<Execution> executions = executionsByTest.get(testCode);
+        if (executions == null || executions.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        long[] durations = executions.stream().mapToLong(execution -> execution.durationMillis).toArray();
+        Arrays.sort(durations);
+        int rank = (int) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100.0 * durations.length);
+        return OptionalLong.of(durations[Math.max(0, rank - 1)]);
+    }
+
+    public synchronized int sampleCount(String testCode) {
+        Deque<Execution> executions = executionsByTest.get(testCode);
+        return executions != null ? executions.size() : 0;
+    }
+
+    public synchronized OptionalDouble failureRate(String testCode) {
+        Deque<Execution> executions = executionsByTest.get(testCode);
+        if (executions == null || executions.isEmpty()) {
+            return OptionalDouble.empty();
+        }
+        long failures = executions.stream().filter(execution -> "FAILURE".equalsIgnoreCase(execution.status)).count();
+        return OptionalDouble.of((double) failures / executions.size());
+    }
+
+    public synchronized OptionalLong suggestedTimeoutMillis(String testCode, double percentile, double safetyFactor) {
+        OptionalLong duration = percentile(testCode, percentile);
+        return duration.isPresent() ? OptionalLong.of((long) (duration.getAsLong() * safetyFactor)) : OptionalLong.empty();
+    }
+
+    private long load(Map<String, Deque<Execution>> target) throws IOException {
+        long lineCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(storeFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(FIELD_SEPARATOR);
+                if (fields.length < 4) {
+                    continue;
+                }
+                try {
+                    remember(target, fields[0], new Execution(Long.parseLong(fields[1]), Long.parseLong(fields[2]), fields[3]));
+                    lineCount++;
+                } catch (NumberFormatException e) {
+                    System.err.println("Skipping malformed test history line: " + line);
+                }
+            }
+        }
+        return lineCount;
+    }
+
+    private void compact() throws IOException {
+        Path compactedFilePath = storeFilePath.resolveSibling(storeFilePath.getFileName() + ".compacting");
+        Map<String, Deque<Execution>> compactedExecutions = new HashMap<>();
+        long previousLineCount;
+        long compactedLineCount = 0;
+
+        try (FileChannel lockChannel = openLockChannel()) {
+            lockChannel.lock();
+            previousLineCount = load(compactedExecutions);
+
+            try (BufferedWriter writer = Files.newBufferedWriter(compactedFilePath, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Deque<Execution>> entry : compactedExecutions.entrySet()) {
+                    for (Execution execution : entry.getValue()) {
+                        writer.write(entry.getKey() + FIELD_SEPARATOR + execution.timestampMillis + FIELD_SEPARATOR
+                                + execution.durationMillis + FIELD_SEPARATOR + execution.status);
+                        writer.newLine();
+                        compactedLineCount++;
+                    }
+                }
+            }
+            Files.move(compactedFilePath, storeFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        executionsByTest.clear();
+        executionsByTest.putAll(compactedExecutions);
+        System.out.println("Test history compacted from " + previousLineCount + " to " + compactedLineCount + " entries.");
+        storedLineCount = compactedLineCount;
+    }
+
+    private FileChannel openLockChannel() throws IOException {
+        return FileChannel.open(lockFilePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+
+    private void remember(Map<String, Deque<Execution>> target, String testCode, Execution execution) {
+        Deque<Execution> executions = target.computeIfAbsent(testCode, key -> new ArrayDeque<>());
+        executions.addLast(execution);
+        while (executions.size() > maxEntriesPerTest) {
+            executions.removeFirst();
+        }
+    }
+
+    private static class Execution {
+        private final long timestampMillis;
+        private final long durationMillis;
+        private final String status;
+
+        private Execution(long timestampMillis, long durationMillis, String status) {
+            this.timestampMillis = timestampMillis;
+            this.durationMillis = durationMillis;
+            this.status = status;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package utils.history;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TestHistoryStoreTest {
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void percentileUsesNearestRank() {
+        TestHistoryStore store = newStore(50);
+        for (long duration = 1; duration <= 20; duration++) {
+            store.record("QA1", duration * 100, "SUCCESS");
+        }
+
+        assertEquals(OptionalLong.of(1000), store.percentile("QA1", 50));
+        assertEquals(OptionalLong.of(1900), store.percentile("QA1", 95));
+        assertEquals(OptionalLong.of(2000), store.percentile("QA1", 100));
+        assertEquals(OptionalLong.of(100), store.percentile("QA1", 0));
+    }
+
+    @Test
+    void percentileIgnoresRecordingOrderAndClampsOutOfRangeValues() {
+        TestHistoryStore store = newStore(50);
+        store.record("QA1", 300, "SUCCESS");
+        store.record("QA1", 100, "SUCCESS");
+        store.record("QA1", 200, "SUCCESS");
+
+        assertEquals(OptionalLong.of(200), store.percentile("QA1", 50));
+        assertEquals(OptionalLong.of(300), store.percentile("QA1", 250));
+        assertEquals(OptionalLong.of(100), store.percentile("QA1", -5));
+    }
+
+    @Test
+    void unknownTestHasNoStatistics() {
+        TestHistoryStore store = newStore(50);
+
+        assertFalse(store.percentile("QA404", 95).isPresent());
+        assertFalse(store.failureRate("QA404").isPresent());
+        assertFalse(store.suggestedTimeoutMillis("QA404", 95, 1.5).isPresent());
+        assertEquals(0, store.sampleCount("QA404"));
+    }
+
+    @Test
+    void keepsOnlyTheMostRecentEntriesPerTest() {
+        TestHistoryStore store = newStore(3);
+        for (long duration = 1; duration <= 5; duration++) {
+            store.record("QA1", duration, "SUCCESS");
+        }
+
+        assertEquals(3, store.sampleCount("QA1"));
+        assertEquals(OptionalLong.of(3), store.percentile("QA1", 0));
+    }
+
+    @Test
+    void failureRateAndSuggestedTimeout() {
+        TestHistoryStore store = newStore(50);
+        store.record("QA1", 1000, "SUCCESS");
+        store.record("QA1", 2000, "FAILURE");
+        store.record("QA1", 3000, "SUCCESS");
+        store.record("QA1", 4000, "failure");
+
+        assertEquals(0.5, store.failureRate("QA1").getAsDouble());
+        assertEquals(OptionalLong.of(6000), store.suggestedTimeoutMillis("QA1", 100, 1.5));
+    }
+
+    @Test
+    void reloadsHistoryFromDiskAndSkipsMalformedLines() throws IOException {
+        Path storeFile = tempDirectory.resolve("durations.log");
+        TestHistoryStore store = new TestHistoryStore(storeFile, 50);
+        store.record("QA1", 100, "SUCCESS");
+        store.record("QA2", 200, "FAILURE");
+        Files.writeString(storeFile, "garbage\nQA1\tnot-a-time\t5\tSUCCESS\n", StandardOpenOption.APPEND);
+
+        TestHistoryStore reloaded = new TestHistoryStore(storeFile, 50);
+
+        assertEquals(1, reloaded.sampleCount("QA1"));
+        assertEquals(OptionalLong.of(200), reloaded.percentile("QA2", 50));
+    }
+
+    @Test
+    void compactionRewritesTheFileWithTheRetainedEntries() throws IOException {
+        Path storeFile = tempDirectory.resolve("durations.log");
+        TestHistoryStore store = new TestHistoryStore(storeFile, 5);
+        for (long duration = 1; duration <= 11; duration++) {
+            store.record("QA1", duration, "SUCCESS");
+        }
+
+        assertTrue(Files.readAllLines(storeFile).size() <= 10);
+        TestHistoryStore reloaded = new TestHistoryStore(storeFile, 5);
+        assertEquals(5, reloaded.sampleCount("QA1"));
+        assertEquals(OptionalLong.of(11), reloaded.percentile("QA1", 100));
+        assertEquals(OptionalLong.of(7), reloaded.percentile("QA1", 0));
+    }
+
+    private TestHistoryStore newStore(int maxEntriesPerTest) {
+        return new TestHistoryStore(tempDirectory.resolve("durations.log"), maxEntriesPerTest);
+    }
+}
@@ -0,0 +1,200 @@
+package utils.pagebinding;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
+
+public class LazyElement implements WebElement, WrapsElement {
+
+    private static final long POLLING_INTERVAL_MILLIS = 250;
+
+    private final SearchContext context;
+    private final By locator;
+    private final Duration timeout;
+    private final boolean cacheLookup;
+    private WebElement cachedElement;
+
+    public LazyElement(SearchContext context, By locator, Duration timeout, boolean cacheLookup) {
+        this.context = context;
+        this.locator = locator;
+        this.timeout = timeout;
+        this.cacheLookup = cacheLookup;
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        if (cachedElement != null) {
+            return cachedElement;
+        }
+        long deadlineNanos = System.nanoTime() + timeout.toNanos();
+        while (true) {
+            try {
+                WebElement element = context.findElement(locator);
+                if (cacheLookup) {
+                    cachedElement = element;
+                }
+                return element;
+            } catch (NoSuchElementException e) {
+                if (System.nanoTime() + POLLING_INTERVAL_MILLIS * 1_000_000 > deadlineNanos) {
+                    throw e;
+                }
+                try {
+                    Thread.sleep(POLLING_INTERVAL_MILLIS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private <T> T call(Function<WebElement, T> action) {
+        try {
+            return action.apply(getWrappedElement());
+        } catch (StaleElementReferenceException e) {
+            if (!cacheLookup) {
+                throw e;
+            }
+            cachedElement = null;
+            return action.apply(getWrappedElement());
+        }
+    }
+
+    @Override
+    public void click() {
+        call(element -> {
+            element.click();
+            return null;
+        });
+    }
+
+    @Override
+    public void submit() {
+        call(element -> {
+            element.submit();
+            return null;
+        });
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        call(element -> {
+            element.sendKeys(keysToSend);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        call(element -> {
+            element.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(element -> element.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(element -> element.getDomAttribute(name));
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(element -> element.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return call(element -> element.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return call(element -> element.findElement(by));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(element -> element.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return call(element -> element.getScreenshotAs(target));
+    }
+
+    @Override
+    public String toString() {
+        return "Element located by " + locator;
+    }
+}
@@ -0,0 +1,54 @@
+package utils.pagebinding;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+
+public class LazyElementList extends AbstractList<WebElement> {
+
+    private final SearchContext context;
+    private final By locator;
+    private final boolean cacheLookup;
+    private List<WebElement> cachedElements;
+
+    public LazyElementList(SearchContext context, By locator, boolean cacheLookup) {
+        this.context = context;
+        this.locator = locator;
+        this.cacheLookup = cacheLookup;
+    }
+
+    private List<WebElement> elements() {
+        if (cachedElements != null) {
+            return cachedElements;
+        }
+        List<WebElement> elements = context.findElements(locator);
+        if (cacheLookup) {
+            cachedElements = elements;
+        }
+        return elements;
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return elements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return elements().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return "Elements located by " + locator;
+    }
+}
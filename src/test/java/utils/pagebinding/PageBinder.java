@@ -0,0 +1,10 @@
+package utils.pagebinding;
+
+import org.openqa.selenium.SearchContext;
+
+import java.time.Duration;
+
+public interface PageBinder<T> {
+
+    void bind(T page, SearchContext context, Duration timeout);
+}
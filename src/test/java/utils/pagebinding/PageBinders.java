@@ -0,0 +1,38 @@
+package utils.pagebinding;
+
+import org.openqa.selenium.SearchContext;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PageBinders {
+
+    private static final Map<Class<?>, Boolean> HAS_LOCATOR_FIELDS = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public static boolean bind(Object page, SearchContext context, Duration timeout) {
+        PageBinder<Object> binder = (PageBinder<Object>) GeneratedPageBinders.get(page.getClass());
+        if (binder != null) {
+            binder.bind(page, context, timeout);
+            return true;
+        }
+        return !HAS_LOCATOR_FIELDS.computeIfAbsent(page.getClass(), PageBinders::hasLocatorFields);
+    }
+
+    private static boolean hasLocatorFields(Class<?> pageClass) {
+        for (Class<?> type = pageClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                for (Annotation annotation : field.getAnnotations()) {
+                    String annotationPackage = annotation.annotationType().getPackageName();
+                    if (annotationPackage.equals("io.appium.java_client.pagefactory") || annotationPackage.equals("org.openqa.selenium.support")) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,45 @@
+package utils.parallel;
+
+import utils.ConfigReader;
+
+public class DeviceContext {
+
+    private static final ThreadLocal<DeviceSlot> CURRENT_SLOT = new ThreadLocal<>();
+
+    public static void bind(String deviceName, int slotIndex) {
+        CURRENT_SLOT.set(new DeviceSlot(deviceName, slotIndex));
+    }
+
+    public static void clear() {
+        CURRENT_SLOT.remove();
+    }
+
+    public static boolean isBound() {
+        return CURRENT_SLOT.get() != null;
+    }
+
+    public static String getBoundDeviceName() {
+        DeviceSlot slot = CURRENT_SLOT.get();
+        return slot != null ? slot.deviceName : null;
+    }
+
+    public static String getDeviceName() {
+        DeviceSlot slot = CURRENT_SLOT.get();
+        return slot != null ? slot.deviceName : ConfigReader.getProperty("device.name");
+    }
+
+    public static int getSlotIndex() {
+        DeviceSlot slot = CURRENT_SLOT.get();
+        return slot != null ? slot.slotIndex : 0;
+    }
+
+    private static class DeviceSlot {
+        private final String deviceName;
+        private final int slotIndex;
+
+        private DeviceSlot(String deviceName, int slotIndex) {
+            this.deviceName = deviceName;
+            this.slotIndex = slotIndex;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package utils.parallel;
+
+import org.junit.platform.engine.discovery.ClassNameFilter;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import utils.ConfigReader;
+import utils.HooksManager;
+import utils.LogCapture;
+import utils.history.TestHistoryStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SuiteScheduler {
+
+    private static final long DEFAULT_DURATION_MILLIS = 60_000;
+    private static final String DEFAULT_TEST_PACKAGE = "tests";
+    private static final String DEFAULT_CLASS_NAME_PATTERN = ".*IT";
+    private static final double DEFAULT_DURATION_PERCENTILE = 50;
+
+    private static volatile boolean active;
+
+    private final List<String> devices;
+    private final List<ConcurrentLinkedDeque<ScheduledTest>> deviceQueues = new ArrayList<>();
+    private final AtomicInteger failedTests = new AtomicInteger();
+
+    public SuiteScheduler(List<String> devices) {
+        if (devices.isEmpty()) {
+            throw new IllegalArgumentException("At least one device is required to schedule the suite.");
+        }
+        this.devices = devices;
+    }
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    public static void main(String[] args) {
+        List<String> devices = ConfigReader.getList("devices");
+        if (devices.isEmpty()) {
+            devices = ConfigReader.getList("device.name");
+        }
+
+        int failures = new SuiteScheduler(devices).run();
+        if (failures > 0) {
+            throw new IllegalStateException(failures + " scheduled test(s) failed. See target/pdf-reports for details.");
+        }
+    }
+
+    public int run() {
+        active = true;
+        LogCapture.install();
+        long suiteStartNanos = System.nanoTime();
+        try {
+            List<ScheduledTest> tests = discoverTests();
+            System.out.println("Scheduling " + tests.size() + " test(s) across " + devices.size() + " device(s): " + devices);
+            shardLongestFirst(tests);
+
+            List<Thread> workers = new ArrayList<>();
+            for (int slotIndex = 0; slotIndex < devices.size(); slotIndex++) {
+                int workerSlot = slotIndex;
+                Thread worker = new Thread(() -> runDevice(workerSlot), "device-" + devices.get(slotIndex));
+                workers.add(worker);
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Suite scheduler interrupted: " + e.getMessage());
+        } finally {
+            active = false;
+            HooksManager.finishRun();
+        }
+
+        long wallClockSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - suiteStartNanos);
+        System.out.println("Suite finished in " + wallClockSeconds / 60 + " MIN " + wallClockSeconds % 60 + " SEG with "
+                + failedTests.get() + " failed test(s).");
+        return failedTests.get();
+    }
+
+    private List<ScheduledTest> discoverTests() {
+        String testPackage = ConfigReader.getProperty("scheduler.test.package");
+        String classNamePattern = ConfigReader.getProperty("scheduler.class.name.pattern");
+        String includeTags = ConfigReader.getProperty("scheduler.include.tags");
+
+        LauncherDiscoveryRequestBuilder requestBuilder = LauncherDiscoveryRequestBuilder.request()
+                .selectors(DiscoverySelectors.selectPackage(isBlank(testPackage) ? DEFAULT_TEST_PACKAGE : testPackage.trim()))
+                .filters(ClassNameFilter.includeClassNamePatterns(isBlank(classNamePattern) ? DEFAULT_CLASS_NAME_PATTERN : classNamePattern.trim()));
+        if (!isBlank(includeTags)) {
+            requestBuilder.filters(TagFilter.includeTags(includeTags.split(",")));
+        }
+
+        TestPlan testPlan = LauncherFactory.create().discover(requestBuilder.build());
+        TestHistoryStore historyStore = TestHistoryStore.getInstance();
+        double percentile = ConfigReader.getDouble("scheduler.duration.percentile", DEFAULT_DURATION_PERCENTILE);
+
+        List<ScheduledTest> tests = new ArrayList<>();
+        List<ScheduledTest> testsWithoutHistory = new ArrayList<>();
+        for (TestIdentifier root : testPlan.getRoots()) {
+            for (TestIdentifier identifier : testPlan.getDescendants(root)) {
+                if (identifier.isTest() || isTestTemplate(identifier)) {
+                    String testCode = toTestCode(identifier.getDisplayName());
+                    OptionalLong estimate = historyStore.percentile(testCode, percentile);
+                    ScheduledTest test = new ScheduledTest(identifier.getUniqueId(), testCode, estimate.orElse(-1));
+                    (estimate.isPresent() ? tests : testsWithoutHistory).add(test);
+                }
+            }
+        }
+
+        long defaultDuration = tests.isEmpty()
+                ? DEFAULT_DURATION_MILLIS
+                : tests.stream().mapToLong(test -> test.estimatedMillis).sorted().skip(tests.size() / 2).findFirst().orElse(DEFAULT_DURATION_MILLIS);
+        for (ScheduledTest test : testsWithoutHistory) {
+            tests.add(new ScheduledTest(test.uniqueId, test.testCode, defaultDuration));
+        }
+        return tests;
+    }
+
+    private static boolean isTestTemplate(TestIdentifier identifier) {
+        return identifier.isContainer() && identifier.getSource().filter(MethodSource.class::isInstance).isPresent();
+    }
+
+    void shardLongestFirst(List<ScheduledTest> tests) {
+        long[] deviceLoads = new long[devices.size()];
+        for (int i = 0; i < devices.size(); i++) {
+            deviceQueues.add(new ConcurrentLinkedDeque<>());
+        }
+
+        tests.sort(Comparator.comparingLong((ScheduledTest test) -> test.estimatedMillis).reversed());
+        for (ScheduledTest test : tests) {
+            int leastLoaded = 0;
+            for (int i = 1; i < deviceLoads.length; i++) {
+                if (deviceLoads[i] < deviceLoads[leastLoaded]) {
+                    leastLoaded = i;
+                }
+            }
+            deviceQueues.get(leastLoaded).addLast(test);
+            deviceLoads[leastLoaded] += test.estimatedMillis;
+        }
+
+        for (int i = 0; i < devices.size(); i++) {
+            System.out.println("Device " + devices.get(i) + ": " + deviceQueues.get(i).size() + " test(s), estimated "
+                    + TimeUnit.MILLISECONDS.toSeconds(deviceLoads[i]) + "s.");
+        }
+    }
+
+    private void runDevice(int slotIndex) {
+        String deviceName = devices.get(slotIndex);
+        DeviceContext.bind(deviceName, slotIndex);
+        Launcher launcher = LauncherFactory.create();
+        try {
+            ScheduledTest test;
+            while ((test = nextTest(slotIndex)) != null) {
+                System.out.println("[" + deviceName + "] Running " + test.testCode + " (estimated "
+                        + TimeUnit.MILLISECONDS.toSeconds(test.estimatedMillis) + "s).");
+
+                LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                        .selectors(DiscoverySelectors.selectUniqueId(test.uniqueId))
+                        .build();
+                SummaryGeneratingListener listener = new SummaryGeneratingListener();
+                launcher.execute(request, listener);
+
+                long failures = listener.getSummary().getTotalFailureCount();
+                if (failures > 0) {
+                    failedTests.incrementAndGet();
+                    System.err.println("[" + deviceName + "] " + test.testCode + " failed.");
+                }
+            }
+        } finally {
+            DeviceContext.clear();
+        }
+    }
+
+    ScheduledTest nextTest(int slotIndex) {
+        ScheduledTest own = deviceQueues.get(slotIndex).pollFirst();
+        if (own != null) {
+            return own;
+        }
+
+        while (true) {
+            ConcurrentLinkedDeque<ScheduledTest> victim = null;
+            long victimLoad = -1;
+            for (int i = 0; i < deviceQueues.size(); i++) {
+                if (i == slotIndex || deviceQueues.get(i).isEmpty()) {
+                    continue;
+                }
+                long load = deviceQueues.get(i).stream().mapToLong(test -> test.estimatedMillis).sum();
+                if (load > victimLoad) {
+                    victim = deviceQueues.get(i);
+                    victimLoad = load;
+                }
+            }
+            if (victim == null) {
+                return null;
+            }
+            ScheduledTest stolen = victim.pollLast();
+            if (stolen != null) {
+                System.out.println("[" + devices.get(slotIndex) + "] Stole " + stolen.testCode + " from a busier device.");
+                return stolen;
+            }
+        }
+    }
+
+    private static String toTestCode(String displayName) {
+        int dashIndex = displayName.indexOf(" - ");
+        return dashIndex != -1 ? displayName.substring(0, dashIndex) : displayName;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    static class ScheduledTest {
+        private final String uniqueId;
+        final String testCode;
+        final long estimatedMillis;
+
+        ScheduledTest(String uniqueId, String testCode, long estimatedMillis) {
+            this.uniqueId = uniqueId;
+            this.testCode = testCode;
+            this.estimatedMillis = estimatedMillis;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package utils.parallel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SuiteSchedulerTest {
+
+    @Test
+    void shardsLongestTestsFirstOntoTheLeastLoadedDevice() {
+        SuiteScheduler scheduler = new SuiteScheduler(List.of("device-a", "device-b"));
+        scheduler.shardLongestFirst(tests(40, 30, 20, 10, 10));
+
+        assertEquals(List.of("T40", "T10", "T10"), drainOwnQueue(scheduler, 0, 3));
+        assertEquals(List.of("T30", "T20"), drainOwnQueue(scheduler, 1, 2));
+    }
+
+    @Test
+    void idleDeviceStealsTheShortestTestFromTheBusiestQueue() {
+        SuiteScheduler scheduler = new SuiteScheduler(List.of("device-a", "device-b", "device-c"));
+        scheduler.shardLongestFirst(tests(100, 50, 40, 30, 20));
+
+        assertEquals("T100", scheduler.nextTest(0).testCode);
+        assertEquals("T50", scheduler.nextTest(1).testCode);
+        assertEquals("T40", scheduler.nextTest(2).testCode);
+        assertEquals("T30", scheduler.nextTest(2).testCode);
+
+        SuiteScheduler.ScheduledTest stolen = scheduler.nextTest(0);
+        assertEquals("T20", stolen.testCode);
+        assertNull(scheduler.nextTest(1));
+        assertNull(scheduler.nextTest(2));
+    }
+
+    @Test
+    void singleDeviceRunsEverythingInDescendingOrder() {
+        SuiteScheduler scheduler = new SuiteScheduler(List.of("device-a"));
+        scheduler.shardLongestFirst(tests(10, 30, 20));
+
+        assertEquals(List.of("T30", "T20", "T10"), drainOwnQueue(scheduler, 0, 3));
+        assertNull(scheduler.nextTest(0));
+    }
+
+    @Test
+    void rejectsAnEmptyDeviceList() {
+        assertThrows(IllegalArgumentException.class, () -> new SuiteScheduler(List.of()));
+    }
+
+    private static List<SuiteScheduler.ScheduledTest> tests(long... estimatedMillis) {
+        List<SuiteScheduler.ScheduledTest> tests = new ArrayList<>();
+        for (long estimate : estimatedMillis) {
+            tests.add(new SuiteScheduler.ScheduledTest("[test:T" + estimate + "-" + tests.size() + "]", "T" + estimate, estimate));
+        }
+        return tests;
+    }
+
+    private static List<String> drainOwnQueue(SuiteScheduler scheduler, int slotIndex, int count) {
+        List<String> testCodes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            testCodes.add(scheduler.nextTest(slotIndex).testCode);
+        }
+        return testCodes;
+    }
+}
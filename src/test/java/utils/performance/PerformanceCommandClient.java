@@ -0,0 +1,53 @@
+package utils.performance;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+class PerformanceCommandClient {
+
+    private static final Json JSON = new Json();
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final URI executeUri;
+    private final Duration requestTimeout;
+
+    PerformanceCommandClient(String serverUrl, String sessionId, Duration requestTimeout) {
+        String baseUrl = serverUrl.endsWith("/") ? serverUrl : serverUrl + "/";
+        this.executeUri = URI.create(baseUrl).resolve("session/" + sessionId + "/execute/sync");
+        this.requestTimeout = requestTimeout;
+    }
+
+    Object executeScript(String script, Map<String, Object> arguments) throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(executeUri)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(JSON.toJson(Map.of("script", script, "args", List.of(arguments))), StandardCharsets.UTF_8))
+                .build();
+        HttpResponse<String> response;
+        try {
+            response = HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running '" + script + "'", e);
+        }
+
+        Map<String, Object> payload = JSON.toType(response.body(), Json.MAP_TYPE);
+        Object value = payload.get("value");
+        if (response.statusCode() != 200) {
+            String message = value instanceof Map ? String.valueOf(((Map<?, ?>) value).get("message")) : response.body();
+            throw new IOException("'" + script + "' failed with HTTP " + response.statusCode() + ": " + message);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,82 @@
+package utils.performance;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PerformanceCommandClientTest {
+
+    private static final Json JSON = new Json();
+
+    private HttpServer server;
+    private final AtomicReference<String> requestPath = new AtomicReference<>();
+    private final AtomicReference<String> requestBody = new AtomicReference<>();
+    private volatile int responseStatus = 200;
+    private volatile String responseBody = "{\"value\":[[\"user\",\"kernel\"],[\"3\",\"2\"]]}";
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requestPath.set(exchange.getRequestURI().getPath());
+            requestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            byte[] response = responseBody.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void postsExecuteScriptToTheSessionUnderTheServerBasePath() throws IOException {
+        Object value = client("/wd/hub").executeScript("mobile: getPerformanceData", Map.of("packageName", "com.example", "dataType", "cpuinfo"));
+
+        assertEquals("/wd/hub/session/abc123/execute/sync", requestPath.get());
+        Map<String, Object> body = JSON.toType(requestBody.get(), Json.MAP_TYPE);
+        assertEquals("mobile: getPerformanceData", body.get("script"));
+        assertEquals(List.of(Map.of("packageName", "com.example", "dataType", "cpuinfo")), body.get("args"));
+        assertEquals(List.of(List.of("user", "kernel"), List.of("3", "2")), value);
+    }
+
+    @Test
+    void worksWithoutABasePath() throws IOException {
+        client("").executeScript("mobile: shell", Map.of("command", "dumpsys"));
+        assertEquals("/session/abc123/execute/sync", requestPath.get());
+    }
+
+    @Test
+    void reportsTheServerErrorMessage() {
+        responseStatus = 404;
+        responseBody = "{\"value\":{\"error\":\"invalid session id\",\"message\":\"session is gone\"}}";
+
+        IOException error = assertThrows(IOException.class, () -> client("").executeScript("mobile: shell", Map.of()));
+        assertTrue(error.getMessage().contains("HTTP 404"));
+        assertTrue(error.getMessage().contains("session is gone"));
+    }
+
+    private PerformanceCommandClient client(String basePath) {
+        String serverUrl = "http://127.0.0.1:" + server.getAddress().getPort() + basePath;
+        return new PerformanceCommandClient(serverUrl, "abc123", Duration.ofSeconds(5));
+    }
+}
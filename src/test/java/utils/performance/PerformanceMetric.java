@@ -0,0 +1,45 @@
+package utils.performance;
+
+import java.util.function.ToDoubleFunction;
+
+public enum PerformanceMetric {
+    CPU("CPU", "%", PerformanceSample::getCpuPercent, "perf.threshold.cpu.p95.percent"),
+    MEMORY("MEMORY (PSS)", "MB", PerformanceSample::getMemoryMb, "perf.threshold.memory.max.mb"),
+    JANK("JANKY FRAMES", "%", PerformanceSample::getJankPercent, "perf.threshold.jank.p95.percent");
+
+    private final String label;
+    private final String unit;
+    private final ToDoubleFunction<PerformanceSample> extractor;
+    private final String thresholdKey;
+
+    PerformanceMetric(String label, String unit, ToDoubleFunction<PerformanceSample> extractor, String thresholdKey) {
+        this.label = label;
+        this.unit = unit;
+        this.extractor = extractor;
+        this.thresholdKey = thresholdKey;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public String getUnit() {
+        return unit;
+    }
+
+    public String getThresholdKey() {
+        return thresholdKey;
+    }
+
+    public double valueOf(PerformanceSample sample) {
+        return extractor.applyAsDouble(sample);
+    }
+
+    public double thresholdValue(PerformanceStats stats) {
+        return this == MEMORY ? stats.getMax() : stats.getP95();
+    }
+
+    public String thresholdStatistic() {
+        return this == MEMORY ? "max" : "p95";
+    }
+}
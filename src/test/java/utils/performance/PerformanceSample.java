@@ -0,0 +1,32 @@
+package utils.performance;
+
+public class PerformanceSample {
+
+    private final long elapsedMillis;
+    private final double cpuPercent;
+    private final double memoryMb;
+    private final double jankPercent;
+
+    public PerformanceSample(long elapsedMillis, double cpuPercent, double memoryMb, double jankPercent) {
+        this.elapsedMillis = elapsedMillis;
+        this.cpuPercent = cpuPercent;
+        this.memoryMb = memoryMb;
+        this.jankPercent = jankPercent;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getCpuPercent() {
+        return cpuPercent;
+    }
+
+    public double getMemoryMb() {
+        return memoryMb;
+    }
+
+    public double getJankPercent() {
+        return jankPercent;
+    }
+}
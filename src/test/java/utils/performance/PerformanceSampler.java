@@ -0,0 +1,230 @@
+package utils.performance;
+
+import io.appium.java_client.android.AndroidDriver;
+import utils.ConfigReader;
+import utils.LogCapture;
+import utils.config.ConfigSnapshot;
+import utils.report.TestReportData;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class PerformanceSampler {
+
+    private static final long DEFAULT_INTERVAL_MILLIS = 2000;
+    private static final int DATA_READ_TIMEOUT_SECONDS = 5;
+    private static final long ADB_TIMEOUT_SECONDS = 10;
+    private static final Pattern TOTAL_FRAMES = Pattern.compile("Total frames rendered:\\s*(\\d+)");
+    private static final Pattern JANKY_FRAMES = Pattern.compile("Janky frames:\\s*(\\d+)");
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newScheduledThreadPool(
+            Math.max(1, ConfigReader.getList("devices").size()), runnable -> {
+                Thread thread = new Thread(runnable, "performance-sampler");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final PerformanceCommandClient commandClient;
+    private final String deviceName;
+    private final ConfigSnapshot settings;
+    private final String appPackage;
+    private final TestReportData reportData;
+    private final ByteArrayOutputStream logBuffer = LogCapture.getCurrentBuffer();
+    private final ReentrantLock sampleLock = new ReentrantLock();
+    private final long startNanos = System.nanoTime();
+    private volatile boolean stopped;
+    private boolean framesViaLocalAdb;
+    private boolean framesAvailable = true;
+    private ScheduledFuture<?> scheduledSampling;
+
+    private PerformanceSampler(AndroidDriver driver, String deviceName, ConfigSnapshot settings, TestReportData reportData) {
+        this.commandClient = new PerformanceCommandClient(settings.getSessionSettings().getAppiumServerUrl(), driver.getSessionId().toString(),
+                Duration.ofSeconds(DATA_READ_TIMEOUT_SECONDS));
+        this.deviceName = deviceName;
+        this.settings = settings;
+        this.appPackage = settings.getSessionSettings().getAppPackage();
+        this.reportData = reportData;
+    }
+
+    public static boolean isEnabled(ConfigSnapshot settings) {
+        return settings.getBoolean("perf.sampling.enabled", false);
+    }
+
+    public static PerformanceSampler start(AndroidDriver driver, String deviceName, TestReportData reportData) {
+        ConfigSnapshot settings = ConfigReader.forDevice(deviceName);
+        if (!isEnabled(settings)) {
+            return null;
+        }
+        PerformanceSampler sampler = new PerformanceSampler(driver, deviceName, settings, reportData);
+        for (PerformanceMetric metric : PerformanceMetric.values()) {
+            reportData.setPerformanceThreshold(metric, settings.getDouble(metric.getThresholdKey(), 0));
+        }
+        long intervalMillis = Math.max(250, settings.getLong("perf.sampling.interval.ms", DEFAULT_INTERVAL_MILLIS));
+        sampler.scheduledSampling = SCHEDULER.scheduleWithFixedDelay(sampler::sample, 0, intervalMillis, TimeUnit.MILLISECONDS);
+        System.out.println("Performance sampling every " + intervalMillis + " ms on " + deviceName
+                + ". Appium runs a session's commands one at a time, so step timings can include sampling delays.");
+        return sampler;
+    }
+
+    public void stop() {
+        if (stopped) {
+            return;
+        }
+        stopped = true;
+        scheduledSampling.cancel(false);
+        sampleLock.lock();
+        sampleLock.unlock();
+        System.out.println("Performance sampling stopped after " + reportData.getPerformanceSamples().size() + " sample(s).");
+    }
+
+    public void assertWithinThresholds() {
+        List<PerformanceSample> samples = reportData.getPerformanceSamples();
+        List<String> violations = new ArrayList<>();
+        for (PerformanceMetric metric : PerformanceMetric.values()) {
+            double threshold = settings.getDouble(metric.getThresholdKey(), 0);
+            PerformanceStats stats = PerformanceStats.of(samples, metric);
+            if (threshold <= 0 || stats.isEmpty()) {
+                continue;
+            }
+            double observed = metric.thresholdValue(stats);
+            if (observed > threshold) {
+                violations.add(String.format("%s %s %.1f %s exceeds threshold %.1f %s", metric.getLabel(), metric.thresholdStatistic(),
+                        observed, metric.getUnit(), threshold, metric.getUnit()));
+            }
+        }
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Performance thresholds exceeded: " + String.join("; ", violations));
+        }
+    }
+
+    private void sample() {
+        if (stopped || !sampleLock.tryLock()) {
+            return;
+        }
+        LogCapture.attach(logBuffer);
+        try {
+            if (stopped) {
+                return;
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            reportData.addPerformanceSample(new PerformanceSample(elapsedMillis, readCpuPercent(), readMemoryMb(), readJankPercent()));
+        } catch (Exception e) {
+            System.err.println("Performance sample skipped: " + e.getMessage());
+        } finally {
+            LogCapture.detach();
+            sampleLock.unlock();
+        }
+    }
+
+    private double readCpuPercent() throws IOException {
+        List<List<Object>> cpuInfo = readPerformanceData("cpuinfo");
+        if (cpuInfo == null || cpuInfo.size() < 2) {
+            return Double.NaN;
+        }
+        double total = 0;
+        for (Object value : cpuInfo.get(1)) {
+            total += parseDouble(value);
+        }
+        return total;
+    }
+
+    private double readMemoryMb() throws IOException {
+        List<List<Object>> memoryInfo = readPerformanceData("memoryinfo");
+        if (memoryInfo == null || memoryInfo.size() < 2) {
+            return Double.NaN;
+        }
+        int pssIndex = memoryInfo.get(0).indexOf("totalPss");
+        if (pssIndex < 0 || pssIndex >= memoryInfo.get(1).size()) {
+            return Double.NaN;
+        }
+        return parseDouble(memoryInfo.get(1).get(pssIndex)) / 1024d;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<Object>> readPerformanceData(String dataType) throws IOException {
+        Object value = commandClient.executeScript("mobile: getPerformanceData", Map.of("packageName", appPackage, "dataType", dataType));
+        return value instanceof List ? (List<List<Object>>) value : null;
+    }
+
+    private double readJankPercent() {
+        if (!framesAvailable) {
+            return Double.NaN;
+        }
+        String gfxInfo = readGfxInfo();
+        if (gfxInfo == null) {
+            return Double.NaN;
+        }
+        Matcher totalFrames = TOTAL_FRAMES.matcher(gfxInfo);
+        Matcher jankyFrames = JANKY_FRAMES.matcher(gfxInfo);
+        if (!totalFrames.find() || !jankyFrames.find()) {
+            return Double.NaN;
+        }
+        long total = Long.parseLong(totalFrames.group(1));
+        return total == 0 ? Double.NaN : Long.parseLong(jankyFrames.group(1)) * 100d / total;
+    }
+
+    private String readGfxInfo() {
+        if (!framesViaLocalAdb) {
+            try {
+                return String.valueOf(commandClient.executeScript("mobile: shell",
+                        Map.of("command", "dumpsys", "args", List.of("gfxinfo", appPackage, "reset"))));
+            } catch (Exception e) {
+                System.out.println("Frame stats via 'mobile: shell' unavailable. Falling back to local adb for " + deviceName + ".");
+                framesViaLocalAdb = true;
+            }
+        }
+        String output = runAdbGfxInfo();
+        if (output == null) {
+            System.err.println("Frame stats unavailable for " + deviceName + ". Sampling CPU and memory only.");
+            framesAvailable = false;
+        }
+        return output;
+    }
+
+    private String runAdbGfxInfo() {
+        ProcessBuilder processBuilder = new ProcessBuilder(settings.get("adb.path", "adb"),
+                "-s", deviceName, "shell", "dumpsys", "gfxinfo", appPackage, "reset");
+        processBuilder.redirectErrorStream(true);
+        try {
+            Process process = processBuilder.start();
+            String output;
+            try (InputStream input = process.getInputStream()) {
+                output = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            if (!process.waitFor(ADB_TIMEOUT_SECONDS, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                process.destroyForcibly();
+                return null;
+            }
+            return output;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static double parseDouble(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(String.valueOf(value).trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
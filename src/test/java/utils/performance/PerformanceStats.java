@@ -0,0 +1,60 @@
+package utils.performance;
+
+import java.util.List;
+
+public class PerformanceStats {
+
+    private final int count;
+    private final double min;
+    private final double max;
+    private final double p95;
+
+    private PerformanceStats(int count, double min, double max, double p95) {
+        this.count = count;
+        this.min = min;
+        this.max = max;
+        this.p95 = p95;
+    }
+
+    public static PerformanceStats of(List<PerformanceSample> samples, PerformanceMetric metric) {
+        double[] values = samples.stream()
+                .mapToDouble(metric::valueOf)
+                .filter(value -> !Double.isNaN(value))
+                .sorted()
+                .toArray();
+        if (values.length == 0) {
+            return new PerformanceStats(0, Double.NaN, Double.NaN, Double.NaN);
+        }
+        int p95Index = (int) Math.ceil(0.95 * values.length) - 1;
+        return new PerformanceStats(values.length, values[0], values[values.length - 1], values[Math.max(0, p95Index)]);
+    }
+
+    public static double[] series(List<PerformanceSample> samples, PerformanceMetric metric) {
+        return samples.stream().mapToDouble(metric::valueOf).toArray();
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getP95() {
+        return p95;
+    }
+
+    @Override
+    public String toString() {
+        return isEmpty() ? "N/A" : String.format("min %.1f / max %.1f / p95 %.1f (%d samples)", min, max, p95, count);
+    }
+}
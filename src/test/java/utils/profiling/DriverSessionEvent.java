@@ -0,0 +1,28 @@
+package utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("appium.DriverSession")
+@Label("Driver Session Creation")
+@Category({"Appium", "Session"})
+@Registered(false)
+@StackTrace(false)
+public class DriverSessionEvent extends Event {
+
+    @Label("Server URL")
+    public String serverUrl;
+
+    @Label("Device Name")
+    public String deviceName;
+
+    @Label("Fast Bootstrap")
+    public boolean fastBootstrap;
+
+    @Label("Success")
+    public boolean success;
+}
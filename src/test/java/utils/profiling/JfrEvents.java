@@ -0,0 +1,33 @@
+package utils.profiling;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import utils.ConfigReader;
+
+import java.util.List;
+
+public class JfrEvents {
+
+    private static final List<Class<? extends Event>> EVENT_TYPES = List.of(
+            DriverSessionEvent.class,
+            PageActionEvent.class,
+            ValidationPollEvent.class,
+            ScreenshotCaptureEvent.class,
+            ReportPhaseEvent.class
+    );
+
+    private static volatile boolean registered;
+
+    public static synchronized void registerIfEnabled() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        if (!ConfigReader.getBoolean("jfr.events.enabled", false)) {
+            return;
+        }
+        EVENT_TYPES.forEach(FlightRecorder::register);
+        System.out.println("JFR custom events registered: " + EVENT_TYPES.size() + " event types.");
+    }
+}
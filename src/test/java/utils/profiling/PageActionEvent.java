@@ -0,0 +1,34 @@
+package utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("appium.PageAction")
+@Label("Page Action")
+@Category({"Appium", "Page"})
+@Registered(false)
+@StackTrace(false)
+public class PageActionEvent extends Event {
+
+    @Label("Page")
+    public String page;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Description")
+    public String description;
+
+    @Label("Success")
+    public boolean success;
+
+    public PageActionEvent(String page, String action, String description) {
+        this.page = page;
+        this.action = action;
+        this.description = description;
+    }
+}
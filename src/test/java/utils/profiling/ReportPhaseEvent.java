@@ -0,0 +1,27 @@
+package utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("appium.ReportPhase")
+@Label("Report Phase")
+@Category({"Appium", "Report"})
+@Registered(false)
+@StackTrace(false)
+public class ReportPhaseEvent extends Event {
+
+    @Label("Report")
+    public String report;
+
+    @Label("Phase")
+    public String phase;
+
+    public ReportPhaseEvent(String report, String phase) {
+        this.report = report;
+        this.phase = phase;
+    }
+}
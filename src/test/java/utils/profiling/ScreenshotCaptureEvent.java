@@ -0,0 +1,28 @@
+package utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("appium.ScreenshotCapture")
+@Label("Screenshot Capture")
+@Category({"Appium", "Evidence"})
+@Registered(false)
+@StackTrace(false)
+public class ScreenshotCaptureEvent extends Event {
+
+    @Label("Evidence Name")
+    public String evidenceName;
+
+    @Label("Screenshot Size")
+    @DataAmount(DataAmount.BYTES)
+    public long screenshotSize;
+
+    public ScreenshotCaptureEvent(String evidenceName) {
+        this.evidenceName = evidenceName;
+    }
+}
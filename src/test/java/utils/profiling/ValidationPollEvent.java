@@ -0,0 +1,31 @@
+package utils.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("appium.ValidationPoll")
+@Label("Validation Poll")
+@Category({"Appium", "Validation"})
+@Registered(false)
+@StackTrace(false)
+public class ValidationPollEvent extends Event {
+
+    @Label("Expected Text")
+    public String expectedText;
+
+    @Label("Page Source Size")
+    @DataAmount(DataAmount.BYTES)
+    public long pageSourceSize;
+
+    @Label("Found")
+    public boolean found;
+
+    public ValidationPollEvent(String expectedText) {
+        this.expectedText = expectedText;
+    }
+}
@@ -0,0 +1,43 @@
+package utils.report;
+
+public class DataRowResult {
+
+    private final int rowNumber;
+    private final String label;
+    private final boolean passed;
+    private final long durationMillis;
+    private final String message;
+
+    public DataRowResult(int rowNumber, String label, boolean passed, long durationMillis, String message) {
+        this.rowNumber = rowNumber;
+        this.label = label;
+        this.passed = passed;
+        this.durationMillis = durationMillis;
+        this.message = message;
+    }
+
+    public int getRowNumber() {
+        return rowNumber;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public String toDisplayLine() {
+        return String.format("#%04d  %-6s  %6d ms  %s%s", rowNumber, passed ? "PASSED" : "FAILED", durationMillis, label,
+                message != null && !message.isBlank() ? "  -  " + message : "");
+    }
+}
@@ -0,0 +1,272 @@
+package utils.report;
+
+import org.openqa.selenium.json.Json;
+import utils.ConfigReader;
+import utils.evidence.EvidenceStore;
+import utils.performance.PerformanceMetric;
+import utils.performance.PerformanceSample;
+import utils.performance.PerformanceStats;
+import utils.report.dashboard.RunIndexWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class HtmlReporter implements TestReporter {
+
+    public static final String HTML_FILE_NAME = "index.html";
+    public static final String DATA_FILE_NAME = "report.json";
+    public static final String STEPS_FILE_NAME = "steps.jsonl";
+    public static final String IMAGES_DIR_NAME = "images";
+
+    private static final String BASE_REPORTS_DIR = "target/html-reports/";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    private static final Json JSON = new Json();
+
+    private final Path reportDirectory;
+    private final String reportName;
+    private final TestReportData reportData;
+    private final List<Map<String, Object>> steps = new ArrayList<>();
+    private BufferedWriter htmlWriter;
+    private BufferedWriter stepsWriter;
+    private final ReentrantLock reportLock = new ReentrantLock();
+
+    public HtmlReporter(String contextName, String reportName, String platformName) {
+        this.reportName = reportName;
+        this.reportData = new TestReportData(reportName);
+        String timestamp = LocalDateTime.now().format(DATE_TIME_FORMATTER);
+        this.reportDirectory = Paths.get(BASE_REPORTS_DIR, contextName, reportName + "_" + platformName + "_" + timestamp);
+
+        try {
+            Files.createDirectories(reportDirectory.resolve(IMAGES_DIR_NAME));
+            htmlWriter = Files.newBufferedWriter(reportDirectory.resolve(HTML_FILE_NAME), StandardCharsets.UTF_8);
+            stepsWriter = Files.newBufferedWriter(reportDirectory.resolve(STEPS_FILE_NAME), StandardCharsets.UTF_8);
+            htmlWriter.write("<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>" + escape(reportName) + "</title>"
+                    + "<style>body{font-family:Helvetica,Arial,sans-serif;margin:24px}main{display:flex;flex-direction:column}"
+                    + "table{border-collapse:collapse;margin-bottom:16px}th,td{border:1px solid #000;padding:4px 8px;text-align:left}"
+                    + "th{background:#eee}.summary{order:-1}.step img{max-height:640px;border:1px solid #000}"
+                    + "pre{background:#f6f6f6;padding:8px;white-space:pre-wrap}.SUCCESS{color:green}.FAILURE{color:red}</style>"
+                    + "</head><body><main>");
+            htmlWriter.flush();
+            System.out.println("HTML report initialized at: " + reportDirectory.resolve(HTML_FILE_NAME));
+        } catch (IOException e) {
+            System.err.println("Error initializing HTML report directory: " + e.getMessage());
+            throw new RuntimeException("Failed to initialize HTML report", e);
+        }
+    }
+
+    @Override
+    public TestReportData getReportData() {
+        return reportData;
+    }
+
+    @Override
+    public String getReportFilePath() {
+        return reportDirectory.resolve(HTML_FILE_NAME).toString();
+    }
+
+    @Override
+    public String getArtifactPathPrefix() {
+        return reportDirectory.resolve(reportName).toString();
+    }
+
+    @Override
+    public void addScreenshot(byte[] screenshotBytes, String screenshotName) {
+        reportLock.lock();
+        try {
+            if (htmlWriter == null) {
+                System.err.println("HTML report is already closed. Cannot add screenshot.");
+                return;
+            }
+            int stepIndex = steps.size() + 1;
+            String extension = EvidenceStore.extensionOf(screenshotBytes);
+            String imageName = String.format("%03d_%s.%s", stepIndex, screenshotName.replaceAll("[^a-zA-Z0-9.-]", "_"), extension);
+
+            try {
+                Path storedPath = EvidenceStore.storeScreenshot(screenshotBytes);
+                EvidenceStore.linkInto(storedPath, reportDirectory.resolve(IMAGES_DIR_NAME).resolve(imageName));
+                EvidenceStore.attachToAllure(screenshotName, storedPath);
+
+                Map<String, Object> step = new LinkedHashMap<>();
+                step.put("index", stepIndex);
+                step.put("name", screenshotName);
+                step.put("image", IMAGES_DIR_NAME + "/" + imageName);
+                step.put("capturedAt", LocalDateTime.now().toString());
+                steps.add(step);
+
+                stepsWriter.write(RunIndexWriter.toJsonLine(step));
+                stepsWriter.newLine();
+                stepsWriter.flush();
+
+                htmlWriter.write("<section class=\"step\"><h2>" + stepIndex + ". " + escape(screenshotName) + "</h2>"
+                        + "<img loading=\"lazy\" src=\"" + IMAGES_DIR_NAME + "/" + escape(imageName) + "\" alt=\"" + escape(screenshotName) + "\"></section>");
+                htmlWriter.flush();
+                System.out.println("Screenshot '" + screenshotName + "' added to HTML report.");
+            } catch (IOException e) {
+                System.err.println("Error adding screenshot to HTML report: " + e.getMessage());
+            }
+        } finally {
+            reportLock.unlock();
+        }
+    }
+
+    @Override
+    public void closeReport() {
+        reportLock.lock();
+        try {
+            if (htmlWriter == null) {
+                return;
+            }
+            try {
+                htmlWriter.write("<section class=\"summary\"><h1>TEST REPORT</h1><table>");
+                writeRow("SCRIPT", reportData.getNewInfoFieldContent());
+                writeRow("TEST NAME", reportData.getTestName());
+                writeRow("DESCRIPTION", reportData.getTestDescription());
+                writeRow("RESPONSIBLE", reportData.getResponsibleContent());
+                writeRow("EXECUTION DATE", reportData.getFormattedExecutionDate());
+                writeRow("EXECUTION TIME", reportData.getFormattedExecutionTime());
+                writeRow("ATTEMPT", String.valueOf(reportData.getAttempt()));
+                htmlWriter.write("<tr><th>RESULT</th><td class=\"" + escape(reportData.getTestStatus()) + "\">"
+                        + escape(reportData.getTestStatus()) + "</td></tr>");
+                writeRow("FAILURE CATEGORY", reportData.getFailureCategory());
+                htmlWriter.write("</table></section>");
+
+                List<DataRowResult> dataRowResults = reportData.getDataRowResults();
+                if (!dataRowResults.isEmpty()) {
+                    htmlWriter.write("<section><h2>DATA ROWS</h2><table><tr><th>ROW</th><th>DATA</th><th>RESULT</th><th>DURATION</th><th>MESSAGE</th></tr>");
+                    for (DataRowResult result : dataRowResults) {
+                        String status = result.isPassed() ? "SUCCESS" : "FAILURE";
+                        htmlWriter.write("<tr><td>" + result.getRowNumber() + "</td><td>" + escape(result.getLabel()) + "</td><td class=\"" + status + "\">"
+                                + status + "</td><td>" + result.getDurationMillis() + " ms</td><td>" + escape(result.getMessage()) + "</td></tr>");
+                    }
+                    htmlWriter.write("</table></section>");
+                }
+
+                List<PerformanceSample> performanceSamples = reportData.getPerformanceSamples();
+                if (!performanceSamples.isEmpty()) {
+                    htmlWriter.write("<section><h2>PERFORMANCE</h2><table><tr><th>METRIC</th><th>MIN</th><th>MAX</th><th>P95</th><th>SAMPLES</th></tr>");
+                    for (PerformanceMetric metric : PerformanceMetric.values()) {
+                        PerformanceStats stats = PerformanceStats.of(performanceSamples, metric);
+                        htmlWriter.write("<tr><th>" + escape(metric.getLabel() + " (" + metric.getUnit() + ")") + "</th>");
+                        if (stats.isEmpty()) {
+                            htmlWriter.write("<td>N/A</td><td>N/A</td><td>N/A</td><td>0</td></tr>");
+                        } else {
+                            htmlWriter.write(String.format(Locale.ROOT, "<td>%.1f</td><td>%.1f</td><td>%.1f</td><td>%d</td></tr>",
+                                    stats.getMin(), stats.getMax(), stats.getP95(), stats.getCount()));
+                        }
+                    }
+                    htmlWriter.write("</table></section>");
+                }
+
+                htmlWriter.write("<section><h2>LOGS</h2><pre>" + escape(reportData.getLogsContent()) + "</pre></section>");
+                if (!reportData.getDeviceLogsContent().isBlank()) {
+                    htmlWriter.write("<section><h2>DEVICE LOGS</h2><pre>" + escape(reportData.getDeviceLogsContent()) + "</pre></section>");
+                }
+                htmlWriter.write("</main></body></html>");
+
+                Files.writeString(reportDirectory.resolve(DATA_FILE_NAME), JSON.toJson(toDataMap()), StandardCharsets.UTF_8);
+                System.out.println("HTML report saved and closed: " + getReportFilePath());
+            } catch (IOException e) {
+                System.err.println("Error saving or closing HTML report: " + e.getMessage());
+            } finally {
+                closeQuietly(htmlWriter);
+                closeQuietly(stepsWriter);
+                htmlWriter = null;
+                stepsWriter = null;
+            }
+
+            if ("FAILURE".equals(reportData.getTestStatus()) && ConfigReader.getBoolean("report.pdf.on.failure", true)) {
+                ReportPdfRenderer.render(reportDirectory);
+            }
+        } finally {
+            reportLock.unlock();
+        }
+    }
+
+    private Map<String, Object> toDataMap() {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("testNumber", reportData.getTestNumber());
+        data.put("testCode", reportData.getNewInfoFieldContent());
+        data.put("testName", reportData.getTestName());
+        data.put("description", reportData.getTestDescription());
+        data.put("responsible", reportData.getResponsibleContent());
+        data.put("status", reportData.getTestStatus());
+        data.put("attempt", reportData.getAttempt());
+        data.put("failureCategory", reportData.getFailureCategory());
+        data.put("startTime", reportData.getStartTime() != null ? reportData.getStartTime().toString() : null);
+        data.put("endTime", reportData.getEndTime() != null ? reportData.getEndTime().toString() : null);
+        data.put("logs", reportData.getLogsContent());
+        data.put("deviceLogs", reportData.getDeviceLogsContent());
+        data.put("steps", steps);
+
+        List<Map<String, Object>> dataRows = new ArrayList<>();
+        for (DataRowResult result : reportData.getDataRowResults()) {
+            Map<String, Object> dataRow = new LinkedHashMap<>();
+            dataRow.put("row", result.getRowNumber());
+            dataRow.put("label", result.getLabel());
+            dataRow.put("passed", result.isPassed());
+            dataRow.put("durationMillis", result.getDurationMillis());
+            dataRow.put("message", result.getMessage());
+            dataRows.add(dataRow);
+        }
+        data.put("dataRows", dataRows);
+
+        List<Map<String, Object>> performanceSamples = new ArrayList<>();
+        for (PerformanceSample sample : reportData.getPerformanceSamples()) {
+            Map<String, Object> performanceSample = new LinkedHashMap<>();
+            performanceSample.put("elapsedMillis", sample.getElapsedMillis());
+            performanceSample.put("cpuPercent", numberOrNull(sample.getCpuPercent()));
+            performanceSample.put("memoryMb", numberOrNull(sample.getMemoryMb()));
+            performanceSample.put("jankPercent", numberOrNull(sample.getJankPercent()));
+            performanceSamples.add(performanceSample);
+        }
+        data.put("performanceSamples", performanceSamples);
+
+        Map<String, Object> performanceThresholds = new LinkedHashMap<>();
+        for (PerformanceMetric metric : PerformanceMetric.values()) {
+            performanceThresholds.put(metric.name(), reportData.getPerformanceThreshold(metric));
+        }
+        data.put("performanceThresholds", performanceThresholds);
+        return data;
+    }
+
+    private static Double numberOrNull(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private void writeRow(String header, String value) throws IOException {
+        htmlWriter.write("<tr><th>" + header + "</th><td>" + escape(value) + "</td></tr>");
+    }
+
+    private static void closeQuietly(BufferedWriter writer) {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Error closing HTML report file: " + e.getMessage());
+            }
+        }
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value
+                .replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;");
+    }
+}
@@ -6,32 +6,53 @@ import org.apache.pdfbox.pdmodel.common.PDRectangle;
 import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
 import org.apache.pdfbox.pdmodel.PDPageContentStream;
 
+import javax.imageio.ImageIO;
 import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
 
+import utils.ConfigReader;
+import utils.evidence.EvidenceStore;
+import utils.profiling.ReportPhaseEvent;
 import utils.report.drawing.PdfTableDrawer;
 import utils.report.drawing.PdfPageTemplate;
 import utils.report.drawing.PdfLogWriter;
+import utils.report.drawing.PdfPerformanceDrawer;
 
-public class PdfReporter {
+public class PdfReporter implements TestReporter {
 
     private PDDocument document;
     private final String reportFilePath;
+    private ReportParts reportParts;
+    private final List<PendingImage> pendingImages = new ArrayList<>();
     private final TestReportData reportData;
     private final PdfPageTemplate pdfPageTemplate;
+    private final boolean allureAttachments;
+    private final List<CompletableFuture<Void>> pendingAttachments = new ArrayList<>();
+    private final ReentrantLock reportLock = new ReentrantLock();
 
     private static final String BASE_REPORTS_DIR = "target/pdf-reports/";
+    private static final AtomicBoolean ORPHANS_RECOVERED = new AtomicBoolean();
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
 
     public PdfReporter(String contextName, String reportName, String platformName) {
         this.document = new PDDocument();
         this.reportData = new TestReportData(reportName);
         this.pdfPageTemplate = new PdfPageTemplate();
+        this.allureAttachments = true;
 
         try {
             Path contextDirPath = Paths.get(BASE_REPORTS_DIR, contextName);
@@ -44,7 +65,7 @@ public class PdfReporter {
                     .toString();
             System.out.println("PDF report initialized at: " + this.reportFilePath);
 
-            pdfPageTemplate.addPageWithMarginAndFooter(document);
+            initializeDocument();
 
         } catch (IOException e) {
             System.err.println("Error initializing PDF report directory or file path: " + e.getMessage());
@@ -52,80 +73,260 @@ public class PdfReporter {
         }
     }
 
+    public PdfReporter(TestReportData reportData, String reportFilePath) {
+        this.document = new PDDocument();
+        this.reportData = reportData;
+        this.pdfPageTemplate = new PdfPageTemplate();
+        this.allureAttachments = false;
+        this.reportFilePath = reportFilePath;
+
+        try {
+            initializeDocument();
+        } catch (IOException e) {
+            System.err.println("Error initializing PDF report: " + e.getMessage());
+            throw new RuntimeException("Failed to initialize PDF report", e);
+        }
+    }
+
+    public static void warmUp() {
+        long startNanos = System.nanoTime();
+        TestReportData warmUpData = new TestReportData("WARM_UP");
+        warmUpData.setTestName("PDF warm-up");
+        warmUpData.setTestStatus("SUCCESS");
+        warmUpData.setLogsContent("PDF warm-up");
+        warmUpData.setExecutionTimes(LocalDateTime.now(), LocalDateTime.now());
+        PdfPageTemplate warmUpTemplate = new PdfPageTemplate();
+
+        try (PDDocument warmUpDocument = new PDDocument()) {
+            PDPage summaryPage = warmUpTemplate.addPageWithMarginAndFooter(warmUpDocument);
+            PDPage screenshotPage = warmUpTemplate.addPageWithMarginAndFooter(warmUpDocument);
+            try (PDPageContentStream contentStream = new PDPageContentStream(warmUpDocument, screenshotPage, PDPageContentStream.AppendMode.APPEND, true, true)) {
+                PdfTableDrawer.drawScreenshotInfoTable(contentStream, screenshotPage.getMediaBox().getWidth(), screenshotPage.getMediaBox().getHeight(), 30, "warm-up", warmUpData);
+            }
+            BufferedImage pixel = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB);
+            ByteArrayOutputStream pixelBytes = new ByteArrayOutputStream();
+            ImageIO.write(pixel, "png", pixelBytes);
+            try (ScreenshotEncoder.EncodedImage encodedImage = ScreenshotEncoder.encode(pixelBytes.toByteArray(), "warm-up")) {
+                try (PDPageContentStream contentStream = new PDPageContentStream(warmUpDocument, screenshotPage, PDPageContentStream.AppendMode.APPEND, true, true)) {
+                    contentStream.drawImage(encodedImage.getImage(), 100, 100, 1, 1);
+                }
+                PdfLogWriter.generateLogsPage(warmUpDocument, warmUpData, warmUpTemplate);
+                PdfTableDrawer.drawSummaryTable(warmUpDocument, summaryPage, warmUpData);
+                warmUpTemplate.updatePageNumbersInFooter(warmUpDocument);
+                warmUpDocument.save(OutputStream.nullOutputStream());
+            }
+            System.out.println("PDF report pipeline warmed up in " + (System.nanoTime() - startNanos) / 1_000_000 + " ms.");
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error warming up PDF report pipeline: " + e.getMessage());
+        }
+    }
+
+    private void initializeDocument() throws IOException {
+        if (ConfigReader.getBoolean("report.incremental.enabled", false)) {
+            if (ORPHANS_RECOVERED.compareAndSet(false, true)) {
+                ReportParts.recoverOrphans(Paths.get(BASE_REPORTS_DIR));
+            }
+            this.reportParts = new ReportParts(this.reportFilePath);
+        }
+
+        pdfPageTemplate.addPageWithMarginAndFooter(document);
+    }
+
+    @Override
     public TestReportData getReportData() {
         return reportData;
     }
 
-    public void addScreenshot(byte[] screenshotBytes, String screenshotName) {
-        if (document == null) {
-            System.err.println("PDF document is not initialized. Cannot add screenshot.");
-            return;
-        }
+    @Override
+    public String getReportFilePath() {
+        return reportFilePath;
+    }
 
+    @Override
+    public String getArtifactPathPrefix() {
+        return reportFilePath.replaceAll("\\.pdf$", "");
+    }
+
+    @Override
+    public void addScreenshot(byte[] screenshotBytes, String screenshotName) {
+        reportLock.lock();
         try {
-            PDImageXObject pdImage = PDImageXObject.createFromByteArray(document, screenshotBytes, screenshotName);
+            if (document == null) {
+                System.err.println("PDF document is not initialized. Cannot add screenshot.");
+                return;
+            }
+            if (allureAttachments) {
+                pendingAttachments.add(EvidenceStore.attachScreenshotToAllureAsync(screenshotName, screenshotBytes));
+            }
 
-            PDPage page = pdfPageTemplate.addPageWithMarginAndFooter(document);
+            ReportPhaseEvent event = new ReportPhaseEvent(reportData.getTestNumber(), "addScreenshot");
+            event.begin();
+            try {
+                if (reportParts == null) {
+                    PDPage page = addScreenshotPage(document, screenshotName);
+                    pendingImages.add(new PendingImage(page, screenshotName, ScreenshotEncoder.encodeAsync(screenshotBytes, screenshotName)));
+                } else {
+                    try (PDDocument partDocument = new PDDocument()) {
+                        PDPage page = addScreenshotPage(partDocument, screenshotName);
+                        drawScreenshot(partDocument, page, PDImageXObject.createFromByteArray(partDocument, screenshotBytes, screenshotName));
+                        reportParts.write(partDocument);
+                    }
+                }
+                System.out.println("Screenshot '" + screenshotName + "' added to PDF" + (reportParts != null ? " (persisted)." : "."));
 
-            PDRectangle mediaBox = page.getMediaBox();
-            float pageWidth = mediaBox.getWidth();
-            float pageHeight = mediaBox.getHeight();
-            float margin = 30;
+            } catch (IOException e) {
+                System.err.println("Error adding screenshot to PDF: " + e.getMessage());
+            } finally {
+                event.commit();
+            }
+        } finally {
+            reportLock.unlock();
+        }
+    }
 
-            float imageWidth = pdImage.getWidth();
-            float imageHeight = pdImage.getHeight();
+    private PDPage addScreenshotPage(PDDocument targetDocument, String screenshotName) throws IOException {
+        PDPage page = pdfPageTemplate.addPageWithMarginAndFooter(targetDocument);
+        PDRectangle mediaBox = page.getMediaBox();
 
-            float scaleX = pageWidth / imageWidth;
-            float scaleY = pageHeight / imageHeight;
-            float finalScale = Math.min(scaleX, scaleY) * 0.7f;
+        try (PDPageContentStream contentStream = new PDPageContentStream(targetDocument, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
+            contentStream.setLineWidth(1f);
+            contentStream.setStrokingColor(Color.BLACK);
 
-            float scaledWidth = imageWidth * finalScale;
-            float scaledHeight = imageHeight * finalScale;
+            PdfTableDrawer.drawScreenshotInfoTable(contentStream, mediaBox.getWidth(), mediaBox.getHeight(), 30, screenshotName, reportData);
+        }
+        return page;
+    }
 
-            float imageX = (pageWidth - scaledWidth) / 2;
-            float imageY = (pageHeight - scaledHeight) / 2;
+    private void drawScreenshot(PDDocument targetDocument, PDPage page, PDImageXObject pdImage) throws IOException {
+        PDRectangle mediaBox = page.getMediaBox();
+        float pageWidth = mediaBox.getWidth();
+        float pageHeight = mediaBox.getHeight();
 
-            try (PDPageContentStream contentStream = new PDPageContentStream(document, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
-                contentStream.setLineWidth(1f);
-                contentStream.setStrokingColor(Color.BLACK);
+        float imageWidth = pdImage.getWidth();
+        float imageHeight = pdImage.getHeight();
 
-                PdfTableDrawer.drawScreenshotInfoTable(contentStream, pageWidth, pageHeight, margin, screenshotName, reportData);
+        float scaleX = pageWidth / imageWidth;
+        float scaleY = pageHeight / imageHeight;
+        float finalScale = Math.min(scaleX, scaleY) * 0.7f;
 
-                contentStream.drawImage(pdImage, imageX, imageY, scaledWidth, scaledHeight);
+        float scaledWidth = imageWidth * finalScale;
+        float scaledHeight = imageHeight * finalScale;
 
-            }
-            System.out.println("Screenshot '" + screenshotName + "' added to PDF.");
+        float imageX = (pageWidth - scaledWidth) / 2;
+        float imageY = (pageHeight - scaledHeight) / 2;
 
-        } catch (IOException e) {
-            System.err.println("Error adding screenshot to PDF: " + e.getMessage());
+        try (PDPageContentStream contentStream = new PDPageContentStream(targetDocument, page, PDPageContentStream.AppendMode.APPEND, true, true)) {
+            contentStream.drawImage(pdImage, imageX, imageY, scaledWidth, scaledHeight);
         }
     }
 
-    public void closeReport() {
-        if (document != null) {
+    private List<ScreenshotEncoder.EncodedImage> attachPendingImages() {
+        List<ScreenshotEncoder.EncodedImage> encodedImages = new ArrayList<>();
+        for (PendingImage pendingImage : pendingImages) {
             try {
-                PdfLogWriter.generateLogsPage(document, reportData, pdfPageTemplate);
+                ScreenshotEncoder.EncodedImage encodedImage = pendingImage.encodedImage.join();
+                encodedImages.add(encodedImage);
+                drawScreenshot(document, pendingImage.page, encodedImage.getImage());
+            } catch (IOException | CompletionException e) {
+                System.err.println("Error encoding screenshot '" + pendingImage.screenshotName + "': " + e.getMessage());
+            }
+        }
+        pendingImages.clear();
+        return encodedImages;
+    }
+
+    @Override
+    public void closeReport() {
+        reportLock.lock();
+        try {
+            if (document != null) {
+                List<PDDocument> mergedParts = List.of();
+                List<ScreenshotEncoder.EncodedImage> encodedImages = List.of();
+                try {
+                    if (reportParts != null) {
+                        ReportPhaseEvent mergeEvent = new ReportPhaseEvent(reportData.getTestNumber(), "mergeParts");
+                        mergeEvent.begin();
+                        mergedParts = reportParts.appendTo(document);
+                        mergeEvent.commit();
+                    }
 
-                PDPage summaryPage = document.getPage(0);
-                PdfTableDrawer.drawSummaryTable(document, summaryPage, reportData);
+                    ReportPhaseEvent imagesEvent = new ReportPhaseEvent(reportData.getTestNumber(), "attachImages");
+                    imagesEvent.begin();
+                    encodedImages = attachPendingImages();
+                    imagesEvent.commit();
 
-                pdfPageTemplate.updatePageNumbersInFooter(document);
+                    ReportPhaseEvent logsEvent = new ReportPhaseEvent(reportData.getTestNumber(), "logsPage");
+                    logsEvent.begin();
+                    PdfLogWriter.generateDataRowsPage(document, reportData, pdfPageTemplate);
+                    PdfLogWriter.generateLogsPage(document, reportData, pdfPageTemplate);
+                    PdfLogWriter.generateDeviceLogsPage(document, reportData, pdfPageTemplate);
+                    logsEvent.commit();
 
-                document.save(this.reportFilePath);
-                System.out.println("PDF report saved and closed: " + this.reportFilePath);
+                    ReportPhaseEvent summaryEvent = new ReportPhaseEvent(reportData.getTestNumber(), "summaryTable");
+                    summaryEvent.begin();
+                    PDPage summaryPage = document.getPage(0);
+                    float summaryBottomY = PdfTableDrawer.drawSummaryTable(document, summaryPage, reportData);
+                    PdfPerformanceDrawer.drawPerformanceSummary(document, summaryPage, reportData, summaryBottomY - 15);
+                    summaryEvent.commit();
 
-            } catch (IOException e) {
-                System.err.println("Error saving or closing PDF report: " + e.getMessage());
-            } finally {
-                if (document != null) {
-                    try {
-                        document.close();
-                    } catch (IOException e) {
-                        System.err.println("Error closing document in finally block: " + e.getMessage());
+                    ReportPhaseEvent footerEvent = new ReportPhaseEvent(reportData.getTestNumber(), "pageNumbers");
+                    footerEvent.begin();
+                    pdfPageTemplate.updatePageNumbersInFooter(document);
+                    footerEvent.commit();
+
+                    ReportPhaseEvent saveEvent = new ReportPhaseEvent(reportData.getTestNumber(), "save");
+                    saveEvent.begin();
+                    document.save(this.reportFilePath);
+                    saveEvent.commit();
+                    System.out.println("PDF report saved and closed: " + this.reportFilePath);
+
+                    if (reportParts != null) {
+                        reportParts.delete();
+                    }
+
+                } catch (IOException e) {
+                    System.err.println("Error saving or closing PDF report: " + e.getMessage());
+                } finally {
+                    for (CompletableFuture<Void> pendingAttachment : pendingAttachments) {
+                        try {
+                            pendingAttachment.join();
+                        } catch (CompletionException e) {
+                            System.err.println("Error attaching screenshot to Allure: " + e.getMessage());
+                        }
+                    }
+                    pendingAttachments.clear();
+                    ReportParts.closeAll(mergedParts);
+                    for (ScreenshotEncoder.EncodedImage encodedImage : encodedImages) {
+                        try {
+                            encodedImage.close();
+                        } catch (IOException e) {
+                            System.err.println("Error releasing encoded screenshot: " + e.getMessage());
+                        }
+                    }
+                    if (document != null) {
+                        try {
+                            document.close();
+                        } catch (IOException e) {
+                            System.err.println("Error closing document in finally block: " + e.getMessage());
+                        }
+                        document = null;
                     }
-                    document = null;
                 }
             }
+        } finally {
+            reportLock.unlock();
+        }
+    }
+
+    private static class PendingImage {
+        private final PDPage page;
+        private final String screenshotName;
+        private final CompletableFuture<ScreenshotEncoder.EncodedImage> encodedImage;
+
+        private PendingImage(PDPage page, String screenshotName, CompletableFuture<ScreenshotEncoder.EncodedImage> encodedImage) {
+            this.page = page;
+            this.screenshotName = screenshotName;
+            this.encodedImage = encodedImage;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,25 @@
+package utils.report;
+
+public enum ReportFormat {
+    PDF,
+    HTML;
+
+    public static ReportFormat fromConfig(String value) {
+        if (value == null || value.isBlank()) {
+            return PDF;
+        }
+        try {
+            return ReportFormat.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown report format '" + value + "'. Falling back to PDF.");
+            return PDF;
+        }
+    }
+
+    public TestReporter create(String contextName, String reportName, String platformName) {
+        if (this == HTML) {
+            return new HtmlReporter(contextName, reportName, platformName);
+        }
+        return new PdfReporter(contextName, reportName, platformName);
+    }
+}
@@ -0,0 +1,147 @@
+package utils.report;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ReportParts {
+
+    private static final String PARTS_SUFFIX = "_parts";
+    private static final String OWNER_FILE_NAME = "owner.pid";
+    private static final String PART_PREFIX = "step-";
+
+    private final Path partsDirectory;
+    private int partCount;
+
+    public ReportParts(String reportFilePath) throws IOException {
+        this.partsDirectory = Paths.get(reportFilePath.replaceAll("\\.pdf$", "") + PARTS_SUFFIX);
+        Files.createDirectories(partsDirectory);
+        Files.writeString(partsDirectory.resolve(OWNER_FILE_NAME), String.valueOf(ProcessHandle.current().pid()), StandardCharsets.UTF_8);
+    }
+
+    public synchronized void write(PDDocument partDocument) throws IOException {
+        partCount++;
+        Path partPath = partsDirectory.resolve(String.format("%s%05d.pdf", PART_PREFIX, partCount));
+        Path temporaryPath = partsDirectory.resolve(partPath.getFileName() + ".tmp");
+        partDocument.save(temporaryPath.toFile());
+        Files.move(temporaryPath, partPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public List<PDDocument> appendTo(PDDocument document) throws IOException {
+        return appendParts(partsDirectory, document);
+    }
+
+    public void delete() {
+        deleteDirectory(partsDirectory);
+    }
+
+    public static void recoverOrphans(Path reportsRoot) {
+        if (!Files.isDirectory(reportsRoot)) {
+            return;
+        }
+        List<Path> orphanDirectories;
+        try (Stream<Path> paths = Files.walk(reportsRoot, 3)) {
+            orphanDirectories = paths
+                    .filter(Files::isDirectory)
+                    .filter(path -> path.getFileName().toString().endsWith(PARTS_SUFFIX))
+                    .filter(ReportParts::isOrphan)
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            System.err.println("Could not scan for orphaned report parts: " + e.getMessage());
+            return;
+        }
+
+        for (Path orphanDirectory : orphanDirectories) {
+            String directoryName = orphanDirectory.getFileName().toString();
+            Path partialReportPath = orphanDirectory.resolveSibling(
+                    directoryName.substring(0, directoryName.length() - PARTS_SUFFIX.length()) + "_PARTIAL.pdf");
+            try (PDDocument partialReport = new PDDocument()) {
+                List<PDDocument> parts = appendParts(orphanDirectory, partialReport);
+                try {
+                    if (partialReport.getNumberOfPages() > 0) {
+                        partialReport.save(partialReportPath.toFile());
+                        System.out.println("Recovered " + parts.size() + " evidence page(s) from an interrupted run: " + partialReportPath);
+                    }
+                } finally {
+                    closeAll(parts);
+                }
+                deleteDirectory(orphanDirectory);
+            } catch (IOException e) {
+                System.err.println("Could not recover report parts in " + orphanDirectory + ": " + e.getMessage());
+            }
+        }
+    }
+
+    public static void closeAll(List<PDDocument> documents) {
+        for (PDDocument document : documents) {
+            try {
+                document.close();
+            } catch (IOException e) {
+                System.err.println("Error closing report part: " + e.getMessage());
+            }
+        }
+    }
+
+    private static List<PDDocument> appendParts(Path directory, PDDocument destination) throws IOException {
+        List<Path> partPaths;
+        try (Stream<Path> paths = Files.list(directory)) {
+            partPaths = paths
+                    .filter(path -> {
+                        String fileName = path.getFileName().toString();
+                        return fileName.startsWith(PART_PREFIX) && fileName.endsWith(".pdf");
+                    })
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .collect(Collectors.toList());
+        }
+
+        PDFMergerUtility merger = new PDFMergerUtility();
+        List<PDDocument> parts = new ArrayList<>();
+        for (Path partPath : partPaths) {
+            try {
+                PDDocument part = Loader.loadPDF(partPath.toFile());
+                parts.add(part);
+                merger.appendDocument(destination, part);
+            } catch (IOException e) {
+                System.err.println("Skipping unreadable report part " + partPath + ": " + e.getMessage());
+            }
+        }
+        return parts;
+    }
+
+    private static boolean isOrphan(Path partsDirectory) {
+        try {
+            String owner = Files.readString(partsDirectory.resolve(OWNER_FILE_NAME), StandardCharsets.UTF_8).trim();
+            Optional<ProcessHandle> ownerProcess = ProcessHandle.of(Long.parseLong(owner));
+            return ownerProcess.isEmpty() || !ownerProcess.get().isAlive();
+        } catch (IOException | NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private static void deleteDirectory(Path directory) {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    System.err.println("Could not delete " + path + ": " + e.getMessage());
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("Could not delete report parts in " + directory + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package utils.report;
+
+import org.openqa.selenium.json.Json;
+import utils.performance.PerformanceMetric;
+import utils.performance.PerformanceSample;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+public class ReportPdfRenderer {
+
+    private static final Json JSON = new Json();
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: ReportPdfRenderer <HTML report directory> [<HTML report directory> ...]");
+            return;
+        }
+        for (String reportDirectory : args) {
+            render(Paths.get(reportDirectory));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Path render(Path reportDirectory) {
+        Path dataFilePath = reportDirectory.resolve(HtmlReporter.DATA_FILE_NAME);
+        if (!Files.exists(dataFilePath)) {
+            System.err.println("Report data not found: " + dataFilePath + ". PDF not rendered.");
+            return null;
+        }
+
+        try {
+            Map<String, Object> data = JSON.toType(Files.readString(dataFilePath, StandardCharsets.UTF_8), Json.MAP_TYPE);
+            TestReportData reportData = new TestReportData(stringOf(data.get("testNumber")));
+            reportData.setNewInfoFieldContent(stringOf(data.get("testCode")));
+            reportData.setTestName(stringOf(data.get("testName")));
+            reportData.setTestDescription(stringOf(data.get("description")));
+            reportData.setResponsibleContent(stringOf(data.get("responsible")));
+            reportData.setTestStatus(stringOf(data.get("status")));
+            reportData.setFailureCategory(stringOf(data.get("failureCategory")));
+            if (data.get("attempt") instanceof Number) {
+                reportData.setAttempt(((Number) data.get("attempt")).intValue());
+            }
+            reportData.setExecutionTimes(timeOf(data.get("startTime")), timeOf(data.get("endTime")));
+            reportData.setLogsContent(stringOf(data.get("logs")));
+            reportData.setDeviceLogsContent(stringOf(data.get("deviceLogs")));
+            for (Map<String, Object> dataRow : (List<Map<String, Object>>) data.getOrDefault("dataRows", List.of())) {
+                reportData.addDataRowResult(new DataRowResult(((Number) dataRow.get("row")).intValue(), stringOf(dataRow.get("label")),
+                        Boolean.TRUE.equals(dataRow.get("passed")), ((Number) dataRow.get("durationMillis")).longValue(), stringOf(dataRow.get("message"))));
+            }
+            for (Map<String, Object> sample : (List<Map<String, Object>>) data.getOrDefault("performanceSamples", List.of())) {
+                reportData.addPerformanceSample(new PerformanceSample(((Number) sample.get("elapsedMillis")).longValue(),
+                        doubleOf(sample.get("cpuPercent")), doubleOf(sample.get("memoryMb")), doubleOf(sample.get("jankPercent"))));
+            }
+            Map<String, Object> performanceThresholds = (Map<String, Object>) data.getOrDefault("performanceThresholds", Map.of());
+            for (PerformanceMetric metric : PerformanceMetric.values()) {
+                if (performanceThresholds.get(metric.name()) instanceof Number) {
+                    reportData.setPerformanceThreshold(metric, ((Number) performanceThresholds.get(metric.name())).doubleValue());
+                }
+            }
+
+            Path pdfFilePath = reportDirectory.resolve(reportDirectory.getFileName() + ".pdf");
+            PdfReporter pdfReporter = new PdfReporter(reportData, pdfFilePath.toString());
+            for (Map<String, Object> step : (List<Map<String, Object>>) data.getOrDefault("steps", List.of())) {
+                Path imagePath = reportDirectory.resolve(stringOf(step.get("image")));
+                if (Files.exists(imagePath)) {
+                    pdfReporter.addScreenshot(Files.readAllBytes(imagePath), stringOf(step.get("name")));
+                }
+            }
+            pdfReporter.closeReport();
+            return pdfFilePath;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error rendering PDF from '" + reportDirectory + "': " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static String stringOf(Object value) {
+        return value != null ? String.valueOf(value) : null;
+    }
+
+    private static double doubleOf(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+    }
+
+    private static LocalDateTime timeOf(Object value) {
+        return value != null ? LocalDateTime.parse(String.valueOf(value)) : null;
+    }
+}
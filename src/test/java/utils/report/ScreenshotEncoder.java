@@ -0,0 +1,65 @@
+package utils.report;
+
+import org.apache.pdfbox.filter.Filter;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.graphics.image.PDImageXObject;
+import utils.ConfigReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+public class ScreenshotEncoder {
+
+    private static final ForkJoinPool POOL;
+
+    static {
+        String deflateLevel = ConfigReader.getProperty("report.image.deflate.level");
+        if (deflateLevel != null && !deflateLevel.isBlank() && System.getProperty(Filter.SYSPROP_DEFLATELEVEL) == null) {
+            System.setProperty(Filter.SYSPROP_DEFLATELEVEL, deflateLevel.trim());
+        }
+        POOL = new ForkJoinPool(Math.max(1, ConfigReader.getInt("report.image.encoding.threads", Runtime.getRuntime().availableProcessors())));
+    }
+
+    public static CompletableFuture<EncodedImage> encodeAsync(byte[] screenshotBytes, String screenshotName) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return encode(screenshotBytes, screenshotName);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, POOL);
+    }
+
+    public static EncodedImage encode(byte[] screenshotBytes, String screenshotName) throws IOException {
+        PDDocument scratchDocument = new PDDocument();
+        try {
+            PDImageXObject image = PDImageXObject.createFromByteArray(scratchDocument, screenshotBytes, screenshotName);
+            return new EncodedImage(scratchDocument, image);
+        } catch (IOException | RuntimeException e) {
+            scratchDocument.close();
+            throw e;
+        }
+    }
+
+    public static class EncodedImage implements Closeable {
+        private final PDDocument scratchDocument;
+        private final PDImageXObject image;
+
+        private EncodedImage(PDDocument scratchDocument, PDImageXObject image) {
+            this.scratchDocument = scratchDocument;
+            this.image = image;
+        }
+
+        public PDImageXObject getImage() {
+            return image;
+        }
+
+        @Override
+        public void close() throws IOException {
+            scratchDocument.close();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package utils.report;
+
+public class StepTiming {
+
+    private final String stepName;
+    private final long durationMillis;
+
+    public StepTiming(String stepName, long durationMillis) {
+        this.stepName = stepName;
+        this.durationMillis = durationMillis;
+    }
+
+    public String getStepName() {
+        return stepName;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+}
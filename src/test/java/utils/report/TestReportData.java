@@ -1,12 +1,20 @@
 package utils.report;
 
+import utils.performance.PerformanceMetric;
+import utils.performance.PerformanceSample;
+
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 public class TestReportData {
     private final String testNumber;
     private String logsContent = "";
+    private String deviceLogsContent = "";
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private String testStatus = "N/A";
@@ -14,6 +22,13 @@ public class TestReportData {
     private String testDescription = "";
     private String newInfoFieldContent = "N/A";
     private String responsibleContent = "N/A";
+    private int attempt = 1;
+    private String failureCategory = "N/A";
+    private final List<StepTiming> stepTimings = new ArrayList<>();
+    private final List<PerformanceSample> performanceSamples = new ArrayList<>();
+    private final Map<PerformanceMetric, Double> performanceThresholds = new EnumMap<>(PerformanceMetric.class);
+    private final List<DataRowResult> dataRowResults = new ArrayList<>();
+    private long lastStepNanos = System.nanoTime();
 
     private static final DateTimeFormatter DISPLAY_DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
 
@@ -30,6 +45,10 @@ public class TestReportData {
         return logsContent;
     }
 
+    public String getDeviceLogsContent() {
+        return deviceLogsContent;
+    }
+
     public String getTestStatus() {
         return testStatus;
     }
@@ -50,10 +69,83 @@ public class TestReportData {
         return responsibleContent;
     }
 
+    public int getAttempt() {
+        return attempt;
+    }
+
+    public String getFailureCategory() {
+        return failureCategory;
+    }
+
+    public void setAttempt(int attempt) {
+        this.attempt = attempt;
+    }
+
+    public void setFailureCategory(String failureCategory) {
+        this.failureCategory = failureCategory != null ? failureCategory : "N/A";
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public long getDurationMillis() {
+        if (startTime != null && endTime != null) {
+            return Duration.between(startTime, endTime).toMillis();
+        }
+        return 0;
+    }
+
+    public synchronized List<StepTiming> getStepTimings() {
+        return List.copyOf(stepTimings);
+    }
+
+    public synchronized void resetStepClock() {
+        lastStepNanos = System.nanoTime();
+    }
+
+    public synchronized void markStep(String stepName) {
+        long now = System.nanoTime();
+        stepTimings.add(new StepTiming(stepName, (now - lastStepNanos) / 1_000_000));
+        lastStepNanos = now;
+    }
+
+    public synchronized List<PerformanceSample> getPerformanceSamples() {
+        return List.copyOf(performanceSamples);
+    }
+
+    public synchronized void addPerformanceSample(PerformanceSample sample) {
+        performanceSamples.add(sample);
+    }
+
+    public synchronized double getPerformanceThreshold(PerformanceMetric metric) {
+        return performanceThresholds.getOrDefault(metric, 0d);
+    }
+
+    public synchronized void setPerformanceThreshold(PerformanceMetric metric, double threshold) {
+        performanceThresholds.put(metric, threshold);
+    }
+
+    public synchronized List<DataRowResult> getDataRowResults() {
+        return List.copyOf(dataRowResults);
+    }
+
+    public synchronized void addDataRowResult(DataRowResult result) {
+        dataRowResults.add(result);
+    }
+
     public void setLogsContent(String logs) {
         this.logsContent = logs;
     }
 
+    public void setDeviceLogsContent(String deviceLogs) {
+        this.deviceLogsContent = deviceLogs != null ? deviceLogs : "";
+    }
+
     public void setExecutionTimes(LocalDateTime start, LocalDateTime end) {
         this.startTime = start;
         this.endTime = end;
@@ -0,0 +1,14 @@
+package utils.report;
+
+public interface TestReporter {
+
+    TestReportData getReportData();
+
+    String getReportFilePath();
+
+    String getArtifactPathPrefix();
+
+    void addScreenshot(byte[] screenshotBytes, String screenshotName);
+
+    void closeReport();
+}
@@ -0,0 +1,96 @@
+package utils.report.bundle;
+
+import org.apache.pdfbox.cos.COSBase;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSObject;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.pdmodel.PDResources;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+class ResourceDeduplicator {
+
+    private final Map<String, COSStream> imagesByHash = new HashMap<>();
+    private final Map<String, COSDictionary> standardFontsByKey = new HashMap<>();
+    private int sharedImages;
+    private int sharedFonts;
+
+    void deduplicate(PDResources resources) throws IOException {
+        if (resources == null) {
+            return;
+        }
+        COSDictionary xObjects = resources.getCOSObject().getCOSDictionary(COSName.XOBJECT);
+        if (xObjects != null) {
+            for (COSName name : new ArrayList<>(xObjects.keySet())) {
+                COSBase xObject = xObjects.getDictionaryObject(name);
+                if (xObject instanceof COSStream && COSName.IMAGE.equals(((COSStream) xObject).getCOSName(COSName.SUBTYPE))) {
+                    COSStream image = (COSStream) xObject;
+                    COSStream canonical = imagesByHash.putIfAbsent(imageHash(image), image);
+                    if (canonical != null && canonical != image) {
+                        xObjects.setItem(name, canonical);
+                        sharedImages++;
+                    }
+                }
+            }
+        }
+
+        COSDictionary fonts = resources.getCOSObject().getCOSDictionary(COSName.FONT);
+        if (fonts != null) {
+            for (COSName name : new ArrayList<>(fonts.keySet())) {
+                COSBase font = fonts.getDictionaryObject(name);
+                if (font instanceof COSDictionary && ((COSDictionary) font).getDictionaryObject(COSName.FONT_DESC) == null) {
+                    COSDictionary fontDictionary = (COSDictionary) font;
+                    String key = fontDictionary.getNameAsString(COSName.SUBTYPE) + "/" + fontDictionary.getNameAsString(COSName.BASE_FONT)
+                            + "/" + fontDictionary.getNameAsString(COSName.ENCODING);
+                    COSDictionary canonical = standardFontsByKey.putIfAbsent(key, fontDictionary);
+                    if (canonical != null && canonical != fontDictionary) {
+                        fonts.setItem(name, canonical);
+                        sharedFonts++;
+                    }
+                }
+            }
+        }
+    }
+
+    int getSharedImages() {
+        return sharedImages;
+    }
+
+    int getSharedFonts() {
+        return sharedFonts;
+    }
+
+    private static String imageHash(COSStream image) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        for (COSName key : List.of(COSName.WIDTH, COSName.HEIGHT, COSName.BITS_PER_COMPONENT, COSName.FILTER, COSName.COLORSPACE, COSName.DECODE_PARMS)) {
+            COSBase value = image.getDictionaryObject(key);
+            digest.update((key.getName() + "=" + (value instanceof COSObject ? "ref" : String.valueOf(value)) + ";").getBytes());
+        }
+        COSBase softMask = image.getDictionaryObject(COSName.SMASK);
+        if (softMask instanceof COSStream) {
+            digest.update(imageHash((COSStream) softMask).getBytes());
+        }
+        try (InputStream input = image.createRawInputStream()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
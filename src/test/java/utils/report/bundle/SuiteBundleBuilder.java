@@ -0,0 +1,262 @@
+package utils.report.bundle;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.multipdf.PDFMergerUtility;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.pdmodel.interactive.action.PDActionGoTo;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDAnnotationLink;
+import org.apache.pdfbox.pdmodel.interactive.annotation.PDBorderStyleDictionary;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.destination.PDPageFitDestination;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDDocumentOutline;
+import org.apache.pdfbox.pdmodel.interactive.documentnavigation.outline.PDOutlineItem;
+import org.openqa.selenium.json.Json;
+import utils.report.dashboard.RunIndexWriter;
+import utils.report.drawing.PdfLogWriter;
+
+import java.awt.Color;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class SuiteBundleBuilder {
+
+    public static final String BUNDLE_FILE_NAME = "suite-bundle.pdf";
+
+    private static final Json JSON = new Json();
+    private static final float MARGIN = 30;
+    private static final float TITLE_FONT_SIZE = 16;
+    private static final float ENTRY_FONT_SIZE = 9;
+    private static final float LINE_HEIGHT = 16;
+    private static final int ENTRIES_PER_PAGE = 42;
+    private static final PDType1Font REGULAR_FONT = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+    private static final PDType1Font BOLD_FONT = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: SuiteBundleBuilder <run directory containing " + RunIndexWriter.INDEX_FILE_NAME + ">");
+            return;
+        }
+        build(Paths.get(args[0]));
+    }
+
+    public static void build(Path runDirectory) {
+        Path indexFilePath = runDirectory.resolve(RunIndexWriter.INDEX_FILE_NAME);
+        if (!Files.exists(indexFilePath)) {
+            System.err.println("Run index not found: " + indexFilePath + ". Suite bundle not generated.");
+            return;
+        }
+
+        List<BundleEntry> entries;
+        try {
+            entries = readEntries(indexFilePath);
+        } catch (IOException e) {
+            System.err.println("Error reading run index '" + indexFilePath + "': " + e.getMessage());
+            return;
+        }
+        if (entries.isEmpty()) {
+            System.out.println("No test reports found in " + indexFilePath + ". Suite bundle not generated.");
+            return;
+        }
+
+        Path bundleFilePath = runDirectory.resolve(BUNDLE_FILE_NAME);
+        try (PDDocument bundle = new PDDocument(IOUtils.createTempFileOnlyStreamCache())) {
+            PDFMergerUtility merger = new PDFMergerUtility();
+            ResourceDeduplicator deduplicator = new ResourceDeduplicator();
+
+            List<BundleEntry> mergedEntries = new ArrayList<>();
+            for (BundleEntry entry : entries) {
+                int firstPageIndex = bundle.getNumberOfPages();
+                try (PDDocument report = Loader.loadPDF(entry.reportPath.toFile())) {
+                    merger.appendDocument(bundle, report);
+                } catch (IOException e) {
+                    System.err.println("Skipping unreadable report " + entry.reportPath + ": " + e.getMessage());
+                    continue;
+                }
+                for (int pageIndex = firstPageIndex; pageIndex < bundle.getNumberOfPages(); pageIndex++) {
+                    deduplicator.deduplicate(bundle.getPage(pageIndex).getResources());
+                }
+                entry.firstPage = bundle.getPage(firstPageIndex);
+                mergedEntries.add(entry);
+            }
+            if (mergedEntries.isEmpty()) {
+                System.out.println("None of the indexed reports could be read. Suite bundle not generated.");
+                return;
+            }
+
+            List<PDPage> tocPages = writeTableOfContents(bundle, mergedEntries);
+            writeOutline(bundle, tocPages.get(0), mergedEntries);
+
+            bundle.save(bundleFilePath.toFile());
+            System.out.println("Suite bundle with " + mergedEntries.size() + " report(s) saved at: " + bundleFilePath
+                    + " (" + deduplicator.getSharedImages() + " duplicate image(s) and " + deduplicator.getSharedFonts() + " font(s) shared).");
+        } catch (IOException e) {
+            System.err.println("Error building suite bundle for '" + runDirectory + "': " + e.getMessage());
+        }
+    }
+
+    private static List<BundleEntry> readEntries(Path indexFilePath) throws IOException {
+        List<BundleEntry> entries = new ArrayList<>();
+        Set<Path> seenReports = new HashSet<>();
+        try (BufferedReader reader = Files.newBufferedReader(indexFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Map<String, Object> indexEntry;
+                try {
+                    indexEntry = JSON.toType(line, Json.MAP_TYPE);
+                } catch (RuntimeException e) {
+                    System.err.println("Skipping malformed run index line: " + e.getMessage());
+                    continue;
+                }
+                Object reportPath = indexEntry.get("reportPath");
+                if (reportPath == null) {
+                    continue;
+                }
+                Path reportFilePath = Paths.get(reportPath.toString());
+                if (!reportFilePath.toString().endsWith(".pdf") || !Files.isRegularFile(reportFilePath) || !seenReports.add(reportFilePath.toAbsolutePath())) {
+                    continue;
+                }
+                entries.add(new BundleEntry(indexEntry, reportFilePath));
+            }
+        }
+        return entries;
+    }
+
+    private static List<PDPage> writeTableOfContents(PDDocument bundle, List<BundleEntry> entries) throws IOException {
+        int tocPageCount = (entries.size() + ENTRIES_PER_PAGE - 1) / ENTRIES_PER_PAGE;
+        PDPage firstReportPage = bundle.getPage(0);
+        List<PDPage> tocPages = new ArrayList<>();
+        for (int tocIndex = 0; tocIndex < tocPageCount; tocIndex++) {
+            PDPage tocPage = new PDPage(PDRectangle.A4);
+            bundle.getPages().insertBefore(tocPage, firstReportPage);
+            tocPages.add(tocPage);
+        }
+
+        for (int tocIndex = 0; tocIndex < tocPageCount; tocIndex++) {
+            PDPage tocPage = tocPages.get(tocIndex);
+            float pageWidth = tocPage.getMediaBox().getWidth();
+            float pageHeight = tocPage.getMediaBox().getHeight();
+            float y = pageHeight - MARGIN - 30;
+
+            try (PDPageContentStream contentStream = new PDPageContentStream(bundle, tocPage)) {
+                contentStream.setStrokingColor(Color.BLACK);
+                contentStream.setLineWidth(1f);
+                contentStream.addRect(MARGIN, MARGIN, pageWidth - (2 * MARGIN), pageHeight - (2 * MARGIN));
+                contentStream.stroke();
+
+                writeText(contentStream, BOLD_FONT, TITLE_FONT_SIZE, MARGIN + 10, y,
+                        "TABLE OF CONTENTS" + (tocPageCount > 1 ? " (" + (tocIndex + 1) + "/" + tocPageCount + ")" : ""));
+                y -= LINE_HEIGHT * 2;
+
+                int from = tocIndex * ENTRIES_PER_PAGE;
+                int to = Math.min(entries.size(), from + ENTRIES_PER_PAGE);
+                for (BundleEntry entry : entries.subList(from, to)) {
+                    int pageNumber = bundle.getPages().indexOf(entry.firstPage) + 1;
+                    String pageLabel = String.valueOf(pageNumber);
+                    float pageLabelWidth = REGULAR_FONT.getStringWidth(pageLabel) / 1000 * ENTRY_FONT_SIZE;
+
+                    writeText(contentStream, REGULAR_FONT, ENTRY_FONT_SIZE, MARGIN + 10, y, truncate(entry.getTitle(), 95));
+                    writeText(contentStream, REGULAR_FONT, ENTRY_FONT_SIZE, pageWidth - MARGIN - 10 - pageLabelWidth, y, pageLabel);
+
+                    PDAnnotationLink link = new PDAnnotationLink();
+                    link.setRectangle(new PDRectangle(MARGIN + 5, y - 4, pageWidth - (2 * MARGIN) - 10, LINE_HEIGHT - 2));
+                    PDBorderStyleDictionary borderStyle = new PDBorderStyleDictionary();
+                    borderStyle.setWidth(0);
+                    link.setBorderStyle(borderStyle);
+                    PDActionGoTo goTo = new PDActionGoTo();
+                    goTo.setDestination(destinationFor(entry.firstPage));
+                    link.setAction(goTo);
+                    tocPage.getAnnotations().add(link);
+
+                    y -= LINE_HEIGHT;
+                }
+            }
+        }
+        return tocPages;
+    }
+
+    private static void writeOutline(PDDocument bundle, PDPage tocPage, List<BundleEntry> entries) {
+        PDDocumentOutline outline = new PDDocumentOutline();
+        bundle.getDocumentCatalog().setDocumentOutline(outline);
+
+        PDOutlineItem tocItem = new PDOutlineItem();
+        tocItem.setTitle("Table of contents");
+        tocItem.setDestination(destinationFor(tocPage));
+        outline.addLast(tocItem);
+
+        Map<String, PDOutlineItem> contextItems = new LinkedHashMap<>();
+        for (BundleEntry entry : entries) {
+            PDOutlineItem contextItem = contextItems.computeIfAbsent(entry.context, context -> {
+                PDOutlineItem item = new PDOutlineItem();
+                item.setTitle(context);
+                item.setDestination(destinationFor(entry.firstPage));
+                outline.addLast(item);
+                return item;
+            });
+            PDOutlineItem testItem = new PDOutlineItem();
+            testItem.setTitle(entry.getTitle());
+            testItem.setDestination(destinationFor(entry.firstPage));
+            contextItem.addLast(testItem);
+        }
+        outline.openNode();
+    }
+
+    private static PDPageFitDestination destinationFor(PDPage page) {
+        PDPageFitDestination destination = new PDPageFitDestination();
+        destination.setPage(page);
+        return destination;
+    }
+
+    private static void writeText(PDPageContentStream contentStream, PDType1Font font, float fontSize, float x, float y, String text) throws IOException {
+        contentStream.beginText();
+        contentStream.setFont(font, fontSize);
+        contentStream.newLineAtOffset(x, y);
+        contentStream.showText(PdfLogWriter.toPrintableText(text));
+        contentStream.endText();
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength - 3) + "...";
+    }
+
+    private static class BundleEntry {
+        private final String testCode;
+        private final String testName;
+        private final String context;
+        private final String status;
+        private final long attempt;
+        private final Path reportPath;
+        private PDPage firstPage;
+
+        private BundleEntry(Map<String, Object> indexEntry, Path reportPath) {
+            this.testCode = String.valueOf(indexEntry.getOrDefault("testCode", "N/A"));
+            this.testName = String.valueOf(indexEntry.getOrDefault("testName", reportPath.getFileName().toString()));
+            this.context = String.valueOf(indexEntry.getOrDefault("context", "general"));
+            this.status = String.valueOf(indexEntry.getOrDefault("status", "N/A"));
+            Object attemptValue = indexEntry.get("attempt");
+            this.attempt = attemptValue instanceof Number ? ((Number) attemptValue).longValue() : 1;
+            this.reportPath = reportPath;
+        }
+
+        private String getTitle() {
+            return testCode + " - " + testName + " [" + status + "]" + (attempt > 1 ? " (attempt " + attempt + ")" : "");
+        }
+    }
+}
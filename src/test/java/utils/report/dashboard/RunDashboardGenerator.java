@@ -0,0 +1,230 @@
+package utils.report.dashboard;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+
+public class RunDashboardGenerator {
+
+    private static final int SLOWEST_LIMIT = 20;
+    private static final int FAILURE_LIMIT = 500;
+    private static final Json JSON = new Json();
+
+    private int totalTests;
+    private long totalDurationMillis;
+    private int omittedFailures;
+    private final Map<String, Integer> statusCounts = new TreeMap<>();
+    private final Map<String, long[]> contextStats = new TreeMap<>();
+    private final PriorityQueue<Map<String, Object>> slowestTests = new PriorityQueue<>(Comparator.comparingLong(RunDashboardGenerator::durationOf));
+    private final PriorityQueue<Map<String, Object>> slowestSteps = new PriorityQueue<>(Comparator.comparingLong(RunDashboardGenerator::durationOf));
+    private final List<Map<String, Object>> failures = new ArrayList<>();
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("Usage: RunDashboardGenerator <run directory containing " + RunIndexWriter.INDEX_FILE_NAME + ">");
+            return;
+        }
+        generate(Paths.get(args[0]));
+    }
+
+    public static void generate(Path runDirectory) {
+        Path indexFilePath = runDirectory.resolve(RunIndexWriter.INDEX_FILE_NAME);
+        if (!Files.exists(indexFilePath)) {
+            System.err.println("Run index not found: " + indexFilePath + ". Dashboard not generated.");
+            return;
+        }
+
+        RunDashboardGenerator generator = new RunDashboardGenerator();
+        try (BufferedReader reader = Files.newBufferedReader(indexFilePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    generator.accept(JSON.toType(line, Json.MAP_TYPE));
+                } catch (RuntimeException e) {
+                    System.err.println("Skipping malformed run index line: " + e.getMessage());
+                }
+            }
+
+            Map<String, Object> summary = generator.buildSummary();
+            Files.writeString(runDirectory.resolve("dashboard.json"), JSON.toJson(summary), StandardCharsets.UTF_8);
+            generator.writeHtml(runDirectory.resolve("dashboard.html"), summary);
+            System.out.println("Run dashboard generated at: " + runDirectory.resolve("dashboard.html"));
+        } catch (IOException e) {
+            System.err.println("Error generating run dashboard for '" + runDirectory + "': " + e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void accept(Map<String, Object> entry) {
+        String status = String.valueOf(entry.getOrDefault("status", "N/A"));
+        String context = String.valueOf(entry.getOrDefault("context", "general"));
+        long duration = durationOf(entry);
+
+        totalTests++;
+        totalDurationMillis += duration;
+        statusCounts.merge(status, 1, Integer::sum);
+
+        long[] stats = contextStats.computeIfAbsent(context, key -> new long[3]);
+        stats[0]++;
+        if ("FAILURE".equalsIgnoreCase(status)) {
+            stats[1]++;
+        }
+        stats[2] += duration;
+
+        Map<String, Object> test = new LinkedHashMap<>();
+        test.put("testCode", entry.get("testCode"));
+        test.put("testName", entry.get("testName"));
+        test.put("context", context);
+        test.put("status", status);
+        test.put("durationMillis", duration);
+        test.put("reportPath", entry.get("reportPath"));
+        keepSlowest(slowestTests, test);
+
+        if ("FAILURE".equalsIgnoreCase(status)) {
+            if (failures.size() < FAILURE_LIMIT) {
+                failures.add(test);
+            } else {
+                omittedFailures++;
+            }
+        }
+
+        Object steps = entry.get("steps");
+        if (steps instanceof List) {
+            for (Object stepObject : (List<Object>) steps) {
+                if (!(stepObject instanceof Map)) {
+                    continue;
+                }
+                Map<String, Object> step = (Map<String, Object>) stepObject;
+                Map<String, Object> slowStep = new LinkedHashMap<>();
+                slowStep.put("testCode", entry.get("testCode"));
+                slowStep.put("step", step.get("name"));
+                slowStep.put("durationMillis", durationOf(step));
+                keepSlowest(slowestSteps, slowStep);
+            }
+        }
+    }
+
+    private Map<String, Object> buildSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("totalTests", totalTests);
+        summary.put("totalDurationMillis", totalDurationMillis);
+        summary.put("statusCounts", statusCounts);
+
+        Map<String, Object> contexts = new LinkedHashMap<>();
+        contextStats.forEach((context, stats) -> {
+            Map<String, Object> contextSummary = new LinkedHashMap<>();
+            contextSummary.put("total", stats[0]);
+            contextSummary.put("failed", stats[1]);
+            contextSummary.put("durationMillis", stats[2]);
+            contexts.put(context, contextSummary);
+        });
+        summary.put("contexts", contexts);
+        summary.put("slowestTests", sortedDescending(slowestTests));
+        summary.put("slowestSteps", sortedDescending(slowestSteps));
+        summary.put("failures", failures);
+        summary.put("omittedFailures", omittedFailures);
+        return summary;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeHtml(Path htmlPath, Map<String, Object> summary) throws IOException {
+        try (BufferedWriter html = Files.newBufferedWriter(htmlPath, StandardCharsets.UTF_8)) {
+            html.write("<!DOCTYPE html><html><head><meta charset=\"UTF-8\"><title>Test Run Dashboard</title>");
+            html.write("<style>body{font-family:Helvetica,Arial,sans-serif;margin:24px}table{border-collapse:collapse;margin-bottom:24px}"
+                    + "th,td{border:1px solid #000;padding:4px 8px;text-align:left}th{background:#eee}"
+                    + ".SUCCESS{color:green}.FAILURE{color:red}</style></head><body>");
+            html.write("<h1>TEST RUN DASHBOARD</h1>");
+
+            html.write("<table><tr><th>TOTAL TESTS</th><td>" + totalTests + "</td></tr>");
+            html.write("<tr><th>TOTAL DURATION</th><td>" + formatMillis(totalDurationMillis) + "</td></tr>");
+            for (Map.Entry<String, Integer> statusEntry : statusCounts.entrySet()) {
+                html.write("<tr><th>" + escape(statusEntry.getKey()) + "</th><td class=\"" + escape(statusEntry.getKey()) + "\">"
+                        + statusEntry.getValue() + "</td></tr>");
+            }
+            html.write("</table>");
+
+            html.write("<h2>CONTEXTS</h2><table><tr><th>CONTEXT</th><th>TOTAL</th><th>FAILED</th><th>DURATION</th></tr>");
+            for (Map.Entry<String, long[]> contextEntry : contextStats.entrySet()) {
+                long[] stats = contextEntry.getValue();
+                html.write("<tr><td>" + escape(contextEntry.getKey()) + "</td><td>" + stats[0] + "</td><td>" + stats[1]
+                        + "</td><td>" + formatMillis(stats[2]) + "</td></tr>");
+            }
+            html.write("</table>");
+
+            writeTestTable(html, "FAILURES", failures);
+            if (omittedFailures > 0) {
+                html.write("<p>" + omittedFailures + " further failures omitted. See dashboard.json and index.jsonl.</p>");
+            }
+            writeTestTable(html, "SLOWEST TESTS", (List<Map<String, Object>>) summary.get("slowestTests"));
+
+            html.write("<h2>SLOWEST STEPS</h2><table><tr><th>SCRIPT</th><th>STEP</th><th>DURATION</th></tr>");
+            for (Map<String, Object> step : (List<Map<String, Object>>) summary.get("slowestSteps")) {
+                html.write("<tr><td>" + escape(step.get("testCode")) + "</td><td>" + escape(step.get("step")) + "</td><td>"
+                        + formatMillis(durationOf(step)) + "</td></tr>");
+            }
+            html.write("</table></body></html>");
+        }
+    }
+
+    private void writeTestTable(BufferedWriter html, String title, List<Map<String, Object>> tests) throws IOException {
+        html.write("<h2>" + title + "</h2><table><tr><th>SCRIPT</th><th>TEST NAME</th><th>CONTEXT</th><th>RESULT</th><th>DURATION</th><th>REPORT</th></tr>");
+        for (Map<String, Object> test : tests) {
+            String status = escape(test.get("status"));
+            String reportPath = test.get("reportPath") != null ? Paths.get(String.valueOf(test.get("reportPath"))).toAbsolutePath().toUri().toString() : "";
+            html.write("<tr><td>" + escape(test.get("testCode")) + "</td><td>" + escape(test.get("testName")) + "</td><td>"
+                    + escape(test.get("context")) + "</td><td class=\"" + status + "\">" + status + "</td><td>"
+                    + formatMillis(durationOf(test)) + "</td><td><a href=\"" + escape(reportPath) + "\">OPEN</a></td></tr>");
+        }
+        html.write("</table>");
+    }
+
+    private static void keepSlowest(PriorityQueue<Map<String, Object>> queue, Map<String, Object> item) {
+        queue.offer(item);
+        if (queue.size() > SLOWEST_LIMIT) {
+            queue.poll();
+        }
+    }
+
+    private static List<Map<String, Object>> sortedDescending(PriorityQueue<Map<String, Object>> queue) {
+        List<Map<String, Object>> sorted = new ArrayList<>(queue);
+        sorted.sort(Comparator.comparingLong(RunDashboardGenerator::durationOf).reversed());
+        return sorted;
+    }
+
+    private static long durationOf(Map<String, Object> item) {
+        Object duration = item.get("durationMillis");
+        return duration instanceof Number ? ((Number) duration).longValue() : 0L;
+    }
+
+    private static String formatMillis(long millis) {
+        long seconds = millis / 1000;
+        return String.format("%d MIN %d SEG %d MS", seconds / 60, seconds % 60, millis % 1000);
+    }
+
+    private static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+        return String.valueOf(value)
+                .replace("&", "&amp;")
+                .replace("<", "&lt;")
+                .replace(">", "&gt;")
+                .replace("\"", "&quot;");
+    }
+}
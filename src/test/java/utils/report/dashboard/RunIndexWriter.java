@@ -0,0 +1,112 @@
+package utils.report.dashboard;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import utils.report.StepTiming;
+import utils.report.TestReportData;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RunIndexWriter {
+
+    public static final String INDEX_FILE_NAME = "index.jsonl";
+
+    private static final String BASE_RUNS_DIR = "target/pdf-reports/runs/";
+    private static final DateTimeFormatter RUN_ID_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    private static final Json JSON = new Json();
+
+    private static RunIndexWriter instance;
+
+    private final Path runDirectory;
+    private final Path indexFilePath;
+    private BufferedWriter writer;
+
+    private RunIndexWriter(Path runDirectory) {
+        this.runDirectory = runDirectory;
+        this.indexFilePath = runDirectory.resolve(INDEX_FILE_NAME);
+    }
+
+    public static synchronized RunIndexWriter getInstance() {
+        if (instance == null) {
+            String runId = LocalDateTime.now().format(RUN_ID_FORMATTER);
+            instance = new RunIndexWriter(Paths.get(BASE_RUNS_DIR, runId));
+        }
+        return instance;
+    }
+
+    public Path getRunDirectory() {
+        return runDirectory;
+    }
+
+    public Path getIndexFilePath() {
+        return indexFilePath;
+    }
+
+    public synchronized void append(String contextName, String reportFilePath, TestReportData reportData) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("testCode", reportData.getNewInfoFieldContent());
+        entry.put("testName", reportData.getTestName());
+        entry.put("context", contextName);
+        entry.put("status", reportData.getTestStatus());
+        entry.put("attempt", reportData.getAttempt());
+        entry.put("failureCategory", reportData.getFailureCategory());
+        entry.put("startTime", reportData.getStartTime() != null ? reportData.getStartTime().toString() : null);
+        entry.put("durationMillis", reportData.getDurationMillis());
+        entry.put("reportPath", reportFilePath);
+
+        List<Map<String, Object>> steps = new ArrayList<>();
+        for (StepTiming stepTiming : reportData.getStepTimings()) {
+            Map<String, Object> step = new LinkedHashMap<>();
+            step.put("name", stepTiming.getStepName());
+            step.put("durationMillis", stepTiming.getDurationMillis());
+            steps.add(step);
+        }
+        entry.put("steps", steps);
+
+        try {
+            if (writer == null) {
+                Files.createDirectories(runDirectory);
+                writer = Files.newBufferedWriter(indexFilePath, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(toJsonLine(entry));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Error appending test result to run index '" + indexFilePath + "': " + e.getMessage());
+        }
+    }
+
+    public synchronized void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                System.err.println("Error closing run index '" + indexFilePath + "': " + e.getMessage());
+            }
+            writer = null;
+        }
+    }
+
+    public static String toJsonLine(Object value) {
+        StringWriter stringWriter = new StringWriter();
+        try (JsonOutput output = JSON.newOutput(stringWriter)) {
+            output.setPrettyPrint(false);
+            output.write(value);
+        }
+        return stringWriter.toString();
+    }
+}
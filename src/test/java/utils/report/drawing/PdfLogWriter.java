@@ -7,7 +7,9 @@ import org.apache.pdfbox.pdmodel.font.PDType1Font;
 import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
 
 import java.io.IOException;
+import java.util.List;
 
+import utils.report.DataRowResult;
 import utils.report.TestReportData;
 
 public class PdfLogWriter {
@@ -23,7 +25,45 @@ public class PdfLogWriter {
     }
 
     public static void generateLogsPage(PDDocument document, TestReportData reportData, PdfPageTemplate pageTemplate) throws IOException {
-        if (reportData.getLogsContent().isEmpty()) {
+        generateTextPages(document, "EXECUTION LOGS", reportData.getLogsContent(), pageTemplate);
+    }
+
+    public static void generateDeviceLogsPage(PDDocument document, TestReportData reportData, PdfPageTemplate pageTemplate) throws IOException {
+        generateTextPages(document, "DEVICE LOGS", reportData.getDeviceLogsContent(), pageTemplate);
+    }
+
+    public static void generateDataRowsPage(PDDocument document, TestReportData reportData, PdfPageTemplate pageTemplate) throws IOException {
+        List<DataRowResult> dataRowResults = reportData.getDataRowResults();
+        if (dataRowResults.isEmpty()) {
+            return;
+        }
+        long failedRows = dataRowResults.stream().filter(result -> !result.isPassed()).count();
+        StringBuilder content = new StringBuilder()
+                .append(dataRowResults.size()).append(" ROW(S), ").append(failedRows).append(" FAILED")
+                .append(System.lineSeparator());
+        for (DataRowResult result : dataRowResults) {
+            content.append(result.toDisplayLine()).append(System.lineSeparator());
+        }
+        generateTextPages(document, "DATA ROWS", content.toString(), pageTemplate);
+    }
+
+    public static String toPrintableText(String line) {
+        StringBuilder printable = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+            if (character == '\t') {
+                printable.append("    ");
+            } else if ((character >= 0x20 && character < 0x7F) || (character >= 0xA0 && character <= 0xFF)) {
+                printable.append(character);
+            } else if (character != '\n' && character != '\r') {
+                printable.append('?');
+            }
+        }
+        return printable.toString();
+    }
+
+    private static void generateTextPages(PDDocument document, String logTitle, String content, PdfPageTemplate pageTemplate) throws IOException {
+        if (content == null || content.isEmpty()) {
             return;
         }
 
@@ -37,7 +77,6 @@ public class PdfLogWriter {
             float leading = LEADING_FACTOR * LOG_FONT_SIZE;
             float startX = MARGIN;
 
-            String logTitle = "EXECUTION LOGS";
             PDType1Font titleFont = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
             float titleFontSize = 18;
 
@@ -73,10 +112,10 @@ public class PdfLogWriter {
             contentStream.setLeading(leading);
             contentStream.newLineAtOffset(startX, currentY);
 
-            String[] lines = reportData.getLogsContent().split("\\r?\\n");
+            String[] lines = content.split("\\r?\\n");
 
             for (String line : lines) {
-                String cleanedLine = line.replaceAll("[\\n\\r]", "");
+                String cleanedLine = toPrintableText(line);
 
                 float requiredSpaceForSummary = DUMMY_SUMMARY_TABLE_HEIGHT + DUMMY_SUMMARY_MARGIN_FROM_BOTTOM;
 
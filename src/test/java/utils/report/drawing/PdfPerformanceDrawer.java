@@ -0,0 +1,186 @@
+package utils.report.drawing;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import utils.performance.PerformanceMetric;
+import utils.performance.PerformanceSample;
+import utils.performance.PerformanceStats;
+import utils.report.TestReportData;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+public class PdfPerformanceDrawer {
+
+    private static final float PAGE_MARGIN = 30;
+    private static final float ROW_HEIGHT = 20;
+    private static final float TEXT_PADDING = 5;
+    private static final float CHART_HEIGHT = 60;
+    private static final float CHART_GAP = 8;
+    private static final float LABEL_FONT_SIZE = 12;
+    private static final float CONTENT_FONT_SIZE = 10;
+    private static final float CHART_FONT_SIZE = 8;
+    private static final Color SERIES_COLOR = new Color(31, 119, 180);
+
+    private static float adjustVert(float baseY, float rowHeight, float fontSize) {
+        return baseY + (rowHeight - (fontSize * 0.7f)) / 2f;
+    }
+
+    public static void drawPerformanceSummary(PDDocument document, PDPage summaryPage, TestReportData reportData, float topY) throws IOException {
+        List<PerformanceSample> samples = reportData.getPerformanceSamples();
+        if (samples.isEmpty()) {
+            return;
+        }
+
+        PDType1Font boldFont = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+        PDType1Font contentFont = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        float tableWidth = summaryPage.getMediaBox().getWidth() - (2 * PAGE_MARGIN);
+        float col1Width = tableWidth * 0.25f;
+        float statColumnWidth = (tableWidth - col1Width) / 4f;
+        PerformanceMetric[] metrics = PerformanceMetric.values();
+
+        try (PDPageContentStream contentStream = new PDPageContentStream(document, summaryPage, PDPageContentStream.AppendMode.APPEND, true, true)) {
+            contentStream.setLineWidth(1f);
+            contentStream.setStrokingColor(Color.BLACK);
+            contentStream.setNonStrokingColor(Color.BLACK);
+
+            float tableHeight = (metrics.length + 2) * ROW_HEIGHT;
+            float tableY = topY - tableHeight;
+            contentStream.addRect(PAGE_MARGIN, tableY, tableWidth, tableHeight);
+            contentStream.stroke();
+            for (int row = 1; row < metrics.length + 2; row++) {
+                float lineY = topY - row * ROW_HEIGHT;
+                contentStream.moveTo(PAGE_MARGIN, lineY);
+                contentStream.lineTo(PAGE_MARGIN + tableWidth, lineY);
+                contentStream.stroke();
+            }
+            for (int column = 0; column < 4; column++) {
+                float lineX = PAGE_MARGIN + col1Width + column * statColumnWidth;
+                contentStream.moveTo(lineX, tableY);
+                contentStream.lineTo(lineX, topY - ROW_HEIGHT);
+                contentStream.stroke();
+            }
+
+            float titleFontSize = 18;
+            String title = "PERFORMANCE";
+            float titleWidth = boldFont.getStringWidth(title) / 1000f * titleFontSize;
+            showText(contentStream, boldFont, titleFontSize, PAGE_MARGIN + (tableWidth - titleWidth) / 2f,
+                    adjustVert(topY - ROW_HEIGHT, ROW_HEIGHT, titleFontSize), title);
+
+            String[] headers = {"METRIC", "MIN", "MAX", "P95", "SAMPLES"};
+            float headerRowBottomY = topY - 2 * ROW_HEIGHT;
+            for (int column = 0; column < headers.length; column++) {
+                float cellX = column == 0 ? PAGE_MARGIN : PAGE_MARGIN + col1Width + (column - 1) * statColumnWidth;
+                showText(contentStream, boldFont, LABEL_FONT_SIZE, cellX + TEXT_PADDING,
+                        adjustVert(headerRowBottomY, ROW_HEIGHT, LABEL_FONT_SIZE), headers[column]);
+            }
+
+            for (int index = 0; index < metrics.length; index++) {
+                PerformanceMetric metric = metrics[index];
+                PerformanceStats stats = PerformanceStats.of(samples, metric);
+                float rowBottomY = headerRowBottomY - (index + 1) * ROW_HEIGHT;
+                String[] cells = {
+                        metric.getLabel() + " (" + metric.getUnit() + ")",
+                        format(stats.getMin()), format(stats.getMax()), format(stats.getP95()), String.valueOf(stats.getCount())
+                };
+                for (int column = 0; column < cells.length; column++) {
+                    float cellX = column == 0 ? PAGE_MARGIN : PAGE_MARGIN + col1Width + (column - 1) * statColumnWidth;
+                    PDType1Font font = column == 0 ? boldFont : contentFont;
+                    if (column > 0 && isOverThreshold(metric, stats, column, reportData.getPerformanceThreshold(metric))) {
+                        contentStream.setNonStrokingColor(Color.RED);
+                    }
+                    showText(contentStream, font, CONTENT_FONT_SIZE, cellX + TEXT_PADDING, adjustVert(rowBottomY, ROW_HEIGHT, CONTENT_FONT_SIZE), cells[column]);
+                    contentStream.setNonStrokingColor(Color.BLACK);
+                }
+            }
+
+            long spanMillis = Math.max(1, samples.get(samples.size() - 1).getElapsedMillis() - samples.get(0).getElapsedMillis());
+            float chartTopY = tableY - CHART_GAP;
+            for (PerformanceMetric metric : metrics) {
+                PerformanceStats stats = PerformanceStats.of(samples, metric);
+                if (stats.isEmpty()) {
+                    continue;
+                }
+                float chartY = chartTopY - CHART_HEIGHT;
+                if (chartY < PAGE_MARGIN + ROW_HEIGHT + CHART_GAP) {
+                    break;
+                }
+                drawChart(contentStream, contentFont, samples, metric, stats, reportData.getPerformanceThreshold(metric), PAGE_MARGIN, chartY, tableWidth, spanMillis);
+                chartTopY = chartY - CHART_GAP;
+            }
+        }
+    }
+
+    private static void drawChart(PDPageContentStream contentStream, PDType1Font font, List<PerformanceSample> samples, PerformanceMetric metric,
+                                  PerformanceStats stats, double threshold, float chartX, float chartY, float chartWidth, long spanMillis) throws IOException {
+        double scaleMax = Math.max(stats.getMax(), threshold) * 1.1;
+        if (scaleMax <= 0) {
+            scaleMax = 1;
+        }
+
+        contentStream.setStrokingColor(Color.LIGHT_GRAY);
+        contentStream.setLineWidth(0.5f);
+        contentStream.addRect(chartX, chartY, chartWidth, CHART_HEIGHT);
+        contentStream.stroke();
+
+        showText(contentStream, font, CHART_FONT_SIZE, chartX + TEXT_PADDING, chartY + CHART_HEIGHT - CHART_FONT_SIZE - 2,
+                metric.getLabel() + " (" + metric.getUnit() + "), scale 0-" + format(scaleMax));
+
+        if (threshold > 0) {
+            float thresholdY = chartY + (float) (threshold / scaleMax) * CHART_HEIGHT;
+            contentStream.setStrokingColor(Color.RED);
+            contentStream.setLineDashPattern(new float[]{3, 3}, 0);
+            contentStream.moveTo(chartX, thresholdY);
+            contentStream.lineTo(chartX + chartWidth, thresholdY);
+            contentStream.stroke();
+            contentStream.setLineDashPattern(new float[]{}, 0);
+        }
+
+        contentStream.setStrokingColor(SERIES_COLOR);
+        contentStream.setLineWidth(1f);
+        long firstMillis = samples.get(0).getElapsedMillis();
+        boolean penDown = false;
+        for (PerformanceSample sample : samples) {
+            double value = metric.valueOf(sample);
+            if (Double.isNaN(value)) {
+                penDown = false;
+                continue;
+            }
+            float pointX = chartX + (float) (sample.getElapsedMillis() - firstMillis) / spanMillis * chartWidth;
+            float pointY = chartY + (float) (value / scaleMax) * CHART_HEIGHT;
+            if (penDown) {
+                contentStream.lineTo(pointX, pointY);
+            } else {
+                contentStream.moveTo(pointX, pointY);
+                penDown = true;
+            }
+        }
+        contentStream.stroke();
+        contentStream.setStrokingColor(Color.BLACK);
+    }
+
+    private static boolean isOverThreshold(PerformanceMetric metric, PerformanceStats stats, int column, double threshold) {
+        if (threshold <= 0 || stats.isEmpty()) {
+            return false;
+        }
+        boolean thresholdColumn = metric.thresholdStatistic().equals("max") ? column == 2 : column == 3;
+        return thresholdColumn && metric.thresholdValue(stats) > threshold;
+    }
+
+    private static void showText(PDPageContentStream contentStream, PDType1Font font, float fontSize, float x, float y, String text) throws IOException {
+        contentStream.beginText();
+        contentStream.setFont(font, fontSize);
+        contentStream.newLineAtOffset(x, y);
+        contentStream.showText(text);
+        contentStream.endText();
+    }
+
+    private static String format(double value) {
+        return Double.isNaN(value) ? "N/A" : String.format(Locale.ROOT, "%.1f", value);
+    }
+}
@@ -76,7 +76,7 @@ public class PdfTableDrawer {
     }
 
 
-    public static void drawSummaryTable(PDDocument document, PDPage summaryPage, TestReportData reportData) throws IOException {
+    public static float drawSummaryTable(PDDocument document, PDPage summaryPage, TestReportData reportData) throws IOException {
         try (PDPageContentStream contentStream = new PDPageContentStream(document, summaryPage, PDPageContentStream.AppendMode.APPEND, true, true)) {
             PDType1Font boldFont = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
             PDType1Font contentFont = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
@@ -386,6 +386,7 @@ public class PdfTableDrawer {
                     currentDescriptionTextY -= lineLeading;
                 }
             }
+            return tableY;
         }
     }
 }
\ No newline at end of file
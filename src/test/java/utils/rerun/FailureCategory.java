@@ -0,0 +1,7 @@
+package utils.rerun;
+
+public enum FailureCategory {
+    ASSERTION,
+    INFRASTRUCTURE,
+    UNKNOWN
+}
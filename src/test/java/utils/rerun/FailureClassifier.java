@@ -0,0 +1,43 @@
+package utils.rerun;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+public class FailureClassifier {
+
+    public static FailureCategory classify(Throwable failure) {
+        Map<Throwable, Boolean> visited = new IdentityHashMap<>();
+        boolean assertion = false;
+        for (Throwable current = failure; current != null && visited.put(current, Boolean.TRUE) == null; current = current.getCause()) {
+            if (current instanceof AssertionError) {
+                assertion = true;
+                continue;
+            }
+            if (current instanceof TimeoutException
+                    || current instanceof NoSuchElementException
+                    || current instanceof StaleElementReferenceException) {
+                if (assertion) {
+                    continue;
+                }
+                return FailureCategory.INFRASTRUCTURE;
+            }
+            if (current instanceof NoSuchSessionException
+                    || current instanceof SessionNotCreatedException
+                    || current instanceof IOException) {
+                return FailureCategory.INFRASTRUCTURE;
+            }
+            if (current instanceof WebDriverException && current.getCause() == null) {
+                return FailureCategory.INFRASTRUCTURE;
+            }
+        }
+        return assertion ? FailureCategory.ASSERTION : FailureCategory.UNKNOWN;
+    }
+}
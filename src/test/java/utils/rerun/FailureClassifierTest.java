@@ -0,0 +1,64 @@
+package utils.rerun;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FailureClassifierTest {
+
+    @Test
+    void plainAssertionIsAssertion() {
+        assertEquals(FailureCategory.ASSERTION, FailureClassifier.classify(new AssertionError("text missing")));
+    }
+
+    @Test
+    void sessionErrorsAreInfrastructure() {
+        assertEquals(FailureCategory.INFRASTRUCTURE, FailureClassifier.classify(new NoSuchSessionException("gone")));
+        assertEquals(FailureCategory.INFRASTRUCTURE, FailureClassifier.classify(new SessionNotCreatedException("no device")));
+        assertEquals(FailureCategory.INFRASTRUCTURE, FailureClassifier.classify(new UncheckedIOException(new IOException("reset"))));
+        assertEquals(FailureCategory.INFRASTRUCTURE, FailureClassifier.classify(new WebDriverException("socket hang up")));
+    }
+
+    @Test
+    void bareLookupFailuresAreInfrastructure() {
+        assertEquals(FailureCategory.INFRASTRUCTURE, FailureClassifier.classify(new TimeoutException("wait")));
+        assertEquals(FailureCategory.INFRASTRUCTURE, FailureClassifier.classify(new NoSuchElementException("missing")));
+        assertEquals(FailureCategory.INFRASTRUCTURE, FailureClassifier.classify(new StaleElementReferenceException("stale")));
+    }
+
+    @Test
+    void lookupFailuresUnderAnAssertionAreAssertions() {
+        assertEquals(FailureCategory.ASSERTION, FailureClassifier.classify(new AssertionError("text missing", new TimeoutException("wait"))));
+        assertEquals(FailureCategory.ASSERTION, FailureClassifier.classify(new AssertionError("text missing", new NoSuchElementException("missing"))));
+    }
+
+    @Test
+    void sessionLossUnderAnAssertionIsInfrastructure() {
+        assertEquals(FailureCategory.INFRASTRUCTURE, FailureClassifier.classify(new AssertionError("wrapped", new NoSuchSessionException("gone"))));
+        assertEquals(FailureCategory.INFRASTRUCTURE, FailureClassifier.classify(
+                new AssertionError("wrapped", new TimeoutException("wait", new NoSuchSessionException("gone")))));
+    }
+
+    @Test
+    void otherFailuresAreUnknown() {
+        assertEquals(FailureCategory.UNKNOWN, FailureClassifier.classify(new IllegalStateException("bug")));
+        assertEquals(FailureCategory.UNKNOWN, FailureClassifier.classify(new WebDriverException("wrapped", new IllegalStateException("bug"))));
+    }
+
+    @Test
+    void causeCyclesTerminate() {
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalStateException second = new IllegalStateException("second", first);
+        first.initCause(second);
+        assertEquals(FailureCategory.UNKNOWN, FailureClassifier.classify(first));
+    }
+}
@@ -0,0 +1,92 @@
+package utils.rerun;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.opentest4j.TestAbortedException;
+import utils.ConfigReader;
+
+import java.util.stream.Stream;
+
+public class InfrastructureRetryExtension implements TestTemplateInvocationContextProvider, TestExecutionExceptionHandler {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(InfrastructureRetryExtension.class);
+    private static final String STATE_KEY = "retryState";
+
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return context.getTestMethod().map(method -> method.isAnnotationPresent(RetryableTest.class)).orElse(false);
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        RetryState state = new RetryState(1 + Math.max(0, ConfigReader.getInt("rerun.max.retries", 0)));
+        context.getStore(NAMESPACE).put(STATE_KEY, state);
+        String displayName = context.getDisplayName();
+
+        return Stream.iterate(1, attempt -> attempt == 1 || state.isRetryRequested(attempt), attempt -> attempt + 1)
+                .map(attempt -> {
+                    state.startAttempt(attempt);
+                    return new TestTemplateInvocationContext() {
+                        @Override
+                        public String getDisplayName(int invocationIndex) {
+                            return displayName;
+                        }
+                    };
+                });
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        RetryState state = stateOf(context);
+        if (state == null || state.currentAttempt >= state.maxAttempts) {
+            throw throwable;
+        }
+
+        FailureCategory category = FailureClassifier.classify(throwable);
+        if (category != FailureCategory.INFRASTRUCTURE) {
+            System.err.println("Attempt " + state.currentAttempt + " failed with a " + category + " failure. Not retrying.");
+            throw throwable;
+        }
+
+        state.retryRequested = true;
+        String message = "Attempt " + state.currentAttempt + " failed with an infrastructure error: " + throwable.getMessage()
+                + ". Retrying (attempt " + (state.currentAttempt + 1) + " of " + state.maxAttempts + ").";
+        System.err.println(message);
+        throw new TestAbortedException(message, throwable);
+    }
+
+    public static int currentAttempt(ExtensionContext context) {
+        RetryState state = stateOf(context);
+        return state != null ? state.currentAttempt : 1;
+    }
+
+    public static boolean isRetryPending(ExtensionContext context) {
+        RetryState state = stateOf(context);
+        return state != null && state.retryRequested;
+    }
+
+    private static RetryState stateOf(ExtensionContext context) {
+        return context.getParent().map(parent -> parent.getStore(NAMESPACE).get(STATE_KEY, RetryState.class)).orElse(null);
+    }
+
+    private static class RetryState {
+        private final int maxAttempts;
+        private volatile int currentAttempt;
+        private volatile boolean retryRequested;
+
+        private RetryState(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        private boolean isRetryRequested(int attempt) {
+            return attempt <= maxAttempts && retryRequested && currentAttempt == attempt - 1;
+        }
+
+        private void startAttempt(int attempt) {
+            currentAttempt = attempt;
+            retryRequested = false;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package utils.rerun;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.TimeoutException;
+import utils.ConfigReader;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InfrastructureRetryExtensionTest {
+
+    private static final String MAX_RETRIES_KEY = "rerun.max.retries";
+
+    @BeforeEach
+    void enableRetries() {
+        System.setProperty(MAX_RETRIES_KEY, "2");
+        ConfigReader.reload();
+        Sample.reset();
+    }
+
+    @AfterEach
+    void restoreConfig() {
+        Sample.enabled = false;
+        System.clearProperty(MAX_RETRIES_KEY);
+        ConfigReader.reload();
+    }
+
+    @Test
+    void infrastructureFailureIsRetriedUntilItPasses() {
+        TestExecutionSummary summary = run("flaky");
+        assertEquals(2, Sample.flakyCalls.get());
+        assertEquals(1, summary.getTestsSucceededCount());
+        assertEquals(1, summary.getTestsAbortedCount());
+        assertEquals(0, summary.getTestsFailedCount());
+    }
+
+    @Test
+    void infrastructureFailureStopsAtMaxRetries() {
+        TestExecutionSummary summary = run("alwaysInfrastructure");
+        assertEquals(3, Sample.infrastructureCalls.get());
+        assertEquals(2, summary.getTestsAbortedCount());
+        assertEquals(1, summary.getTestsFailedCount());
+    }
+
+    @Test
+    void assertionFailureIsNotRetried() {
+        TestExecutionSummary summary = run("realAssertion");
+        assertEquals(1, Sample.assertionCalls.get());
+        assertEquals(0, summary.getTestsAbortedCount());
+        assertEquals(1, summary.getTestsFailedCount());
+    }
+
+    @Test
+    void passingTestRunsOnce() {
+        TestExecutionSummary summary = run("passing");
+        assertEquals(1, Sample.passingCalls.get());
+        assertEquals(1, summary.getTestsSucceededCount());
+        assertEquals(1, summary.getTestsStartedCount());
+    }
+
+    private static TestExecutionSummary run(String methodName) {
+        Sample.enabled = true;
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        LauncherConfig launcherConfig = LauncherConfig.builder()
+                .enableTestExecutionListenerAutoRegistration(false)
+                .build();
+        LauncherFactory.create(launcherConfig).execute(LauncherDiscoveryRequestBuilder.request()
+                .selectors(DiscoverySelectors.selectMethod(Sample.class, methodName))
+                .build(), listener);
+        return listener.getSummary();
+    }
+
+    static class Sample {
+
+        static volatile boolean enabled;
+        static final AtomicInteger flakyCalls = new AtomicInteger();
+        static final AtomicInteger infrastructureCalls = new AtomicInteger();
+        static final AtomicInteger assertionCalls = new AtomicInteger();
+        static final AtomicInteger passingCalls = new AtomicInteger();
+
+        static void reset() {
+            flakyCalls.set(0);
+            infrastructureCalls.set(0);
+            assertionCalls.set(0);
+            passingCalls.set(0);
+        }
+
+        @BeforeEach
+        void onlyWhenLaunchedByTheOuterTest() {
+            Assumptions.assumeTrue(enabled);
+        }
+
+        @RetryableTest
+        void flaky() {
+            if (flakyCalls.incrementAndGet() == 1) {
+                throw new AssertionError("wrapped", new NoSuchSessionException("gone"));
+            }
+        }
+
+        @RetryableTest
+        void alwaysInfrastructure() {
+            infrastructureCalls.incrementAndGet();
+            throw new NoSuchSessionException("gone");
+        }
+
+        @RetryableTest
+        void realAssertion() {
+            assertionCalls.incrementAndGet();
+            throw new AssertionError("text missing", new TimeoutException("wait"));
+        }
+
+        @RetryableTest
+        void passing() {
+            passingCalls.incrementAndGet();
+        }
+    }
+}
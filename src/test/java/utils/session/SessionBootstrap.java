@@ -0,0 +1,234 @@
+package utils.session;
+
+import io.appium.java_client.android.options.UiAutomator2Options;
+import utils.ConfigReader;
+import utils.config.ConfigSnapshot;
+import utils.config.SessionSettings;
+import utils.evidence.ScreenshotCapturer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class SessionBootstrap {
+
+    private static final String DEFAULT_FINGERPRINT_PATH = ".test-history/installed-apps.properties";
+    private static final long ADB_TIMEOUT_SECONDS = 10;
+    private static final Pattern LAST_UPDATE_TIME = Pattern.compile("lastUpdateTime=(.+)");
+    private static final Pattern VERSION_CODE = Pattern.compile("versionCode=(\\d+)");
+    private static final Set<String> LOCAL_HOSTS = Set.of("localhost", "127.0.0.1", "::1", "[::1]");
+
+    private static final Map<String, CachedTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final Map<String, Boolean> APP_CURRENT_BY_DEVICE = new ConcurrentHashMap<>();
+    private static final Set<String> WARM_DEVICES = ConcurrentHashMap.newKeySet();
+    private static final Map<String, String> APK_FINGERPRINTS = new ConcurrentHashMap<>();
+
+    public static UiAutomator2Options buildOptions(String deviceName, int slotIndex, boolean pinDevice) {
+        ConfigSnapshot snapshot = ConfigReader.forDevice(deviceName);
+        SessionSettings settings = snapshot.getSessionSettings();
+        UiAutomator2Options options = new UiAutomator2Options(getTemplate(deviceName, snapshot));
+
+        ScreenshotCapturer.applyCapabilities(options, snapshot, slotIndex);
+        if (pinDevice) {
+            options.setUdid(deviceName);
+            options.setSystemPort(settings.getSystemPortBase() + slotIndex);
+        }
+
+        if (!snapshot.getBoolean("session.bootstrap.fast.enabled", true)) {
+            options.setApp(settings.getAppPath());
+            return options;
+        }
+
+        if (!isAppCurrent(deviceName, snapshot)) {
+            options.setApp(settings.getAppPath());
+        }
+        if (WARM_DEVICES.contains(deviceName)) {
+            options.setSkipServerInstallation(true);
+            options.setSkipDeviceInitialization(true);
+        }
+        if (snapshot.getBoolean("session.bootstrap.disable.animations", true)) {
+            options.setDisableWindowAnimation(true);
+        }
+        return options;
+    }
+
+    public static boolean isFastLaunch(UiAutomator2Options options) {
+        return options.getApp().isEmpty();
+    }
+
+    public static void onSessionCreated(String deviceName, UiAutomator2Options options) {
+        WARM_DEVICES.add(deviceName);
+        if (isFastLaunch(options) || !ConfigReader.forDevice(deviceName).getBoolean("session.bootstrap.fast.enabled", true)) {
+            return;
+        }
+        ConfigSnapshot snapshot = ConfigReader.forDevice(deviceName);
+        String installedState = readInstalledState(deviceName, snapshot);
+        String apkFingerprint = getApkFingerprint(snapshot.getSessionSettings().getAppPath());
+        if (installedState != null && apkFingerprint != null) {
+            storeFingerprint(snapshot, fingerprintKey(deviceName, snapshot), apkFingerprint + "|" + installedState);
+            APP_CURRENT_BY_DEVICE.put(deviceName, true);
+        }
+    }
+
+    private static UiAutomator2Options getTemplate(String deviceName, ConfigSnapshot snapshot) {
+        CachedTemplate cached = TEMPLATES.get(deviceName);
+        if (cached != null && cached.snapshot == snapshot) {
+            return cached.options;
+        }
+        SessionSettings settings = snapshot.getSessionSettings();
+        UiAutomator2Options template = new UiAutomator2Options();
+        template.setPlatformName(settings.getPlatformName());
+        template.setDeviceName(deviceName);
+        template.setAutomationName("UiAutomator2");
+        template.setNewCommandTimeout(Duration.ofSeconds(300));
+        template.setAppPackage(settings.getAppPackage());
+        template.setAppActivity(settings.getAppActivity());
+        template.setNoReset(settings.isNoReset());
+        TEMPLATES.put(deviceName, new CachedTemplate(snapshot, template));
+        return template;
+    }
+
+    private static boolean isAppCurrent(String deviceName, ConfigSnapshot snapshot) {
+        return APP_CURRENT_BY_DEVICE.computeIfAbsent(deviceName, device -> {
+            String appPath = snapshot.getSessionSettings().getAppPath();
+            if (appPath == null || appPath.isBlank()) {
+                return true;
+            }
+            if (!isLocalServer(snapshot.getSessionSettings().getAppiumServerUrl())) {
+                return false;
+            }
+            String installedState = readInstalledState(device, snapshot);
+            String apkFingerprint = getApkFingerprint(appPath);
+            if (installedState == null || apkFingerprint == null) {
+                return false;
+            }
+            String recorded = loadFingerprints(snapshot).getProperty(fingerprintKey(device, snapshot));
+            boolean current = (apkFingerprint + "|" + installedState).equals(recorded);
+            System.out.println("Installed app on " + device + (current ? " matches " : " does not match ") + appPath
+                    + (current ? ". Launching by package/activity only." : ". Appium will install it."));
+            return current;
+        });
+    }
+
+    private static boolean isLocalServer(String serverUrl) {
+        try {
+            String host = URI.create(serverUrl).getHost();
+            return host != null && LOCAL_HOSTS.contains(host.toLowerCase());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static String readInstalledState(String deviceName, ConfigSnapshot snapshot) {
+        String appPackage = snapshot.getSessionSettings().getAppPackage();
+        ProcessBuilder processBuilder = new ProcessBuilder(
+                snapshot.get("adb.path", "adb"), "-s", deviceName, "shell", "dumpsys", "package", appPackage);
+        processBuilder.redirectErrorStream(true);
+        try {
+            Process process = processBuilder.start();
+            String output;
+            try (InputStream input = process.getInputStream()) {
+                output = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            if (!process.waitFor(ADB_TIMEOUT_SECONDS, TimeUnit.SECONDS) || process.exitValue() != 0) {
+                process.destroyForcibly();
+                return null;
+            }
+            Matcher versionCode = VERSION_CODE.matcher(output);
+            Matcher lastUpdateTime = LAST_UPDATE_TIME.matcher(output);
+            if (!versionCode.find() || !lastUpdateTime.find()) {
+                return null;
+            }
+            return versionCode.group(1) + "|" + lastUpdateTime.group(1).trim();
+        } catch (IOException e) {
+            System.err.println("Could not query installed app on " + deviceName + " via adb: " + e.getMessage());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static String getApkFingerprint(String appPath) {
+        if (appPath == null || appPath.isBlank()) {
+            return null;
+        }
+        Path apkPath = Paths.get(appPath.trim());
+        if (!Files.isRegularFile(apkPath)) {
+            return null;
+        }
+        return APK_FINGERPRINTS.computeIfAbsent(apkPath.toAbsolutePath().toString(), key -> {
+            try (DigestInputStream input = new DigestInputStream(Files.newInputStream(apkPath), MessageDigest.getInstance("SHA-256"))) {
+                input.transferTo(OutputStream.nullOutputStream());
+                return HexFormat.of().formatHex(input.getMessageDigest().digest());
+            } catch (IOException | NoSuchAlgorithmException e) {
+                System.err.println("Could not fingerprint " + apkPath + ": " + e.getMessage());
+                return null;
+            }
+        });
+    }
+
+    private static String fingerprintKey(String deviceName, ConfigSnapshot snapshot) {
+        return deviceName + "/" + snapshot.getSessionSettings().getAppPackage();
+    }
+
+    private static Path getFingerprintPath(ConfigSnapshot snapshot) {
+        return Paths.get(snapshot.get("session.bootstrap.fingerprint.path", DEFAULT_FINGERPRINT_PATH));
+    }
+
+    private static synchronized Properties loadFingerprints(ConfigSnapshot snapshot) {
+        Properties fingerprints = new Properties();
+        Path fingerprintPath = getFingerprintPath(snapshot);
+        if (Files.isRegularFile(fingerprintPath)) {
+            try (InputStream input = Files.newInputStream(fingerprintPath)) {
+                fingerprints.load(input);
+            } catch (IOException e) {
+                System.err.println("Could not read installed app fingerprints: " + e.getMessage());
+            }
+        }
+        return fingerprints;
+    }
+
+    private static synchronized void storeFingerprint(ConfigSnapshot snapshot, String key, String value) {
+        Properties fingerprints = loadFingerprints(snapshot);
+        fingerprints.setProperty(key, value);
+        Path fingerprintPath = getFingerprintPath(snapshot);
+        try {
+            if (fingerprintPath.getParent() != null) {
+                Files.createDirectories(fingerprintPath.getParent());
+            }
+            try (OutputStream output = Files.newOutputStream(fingerprintPath)) {
+                fingerprints.store(output, "Installed app fingerprints per device");
+            }
+        } catch (IOException e) {
+            System.err.println("Could not store installed app fingerprint: " + e.getMessage());
+        }
+    }
+
+    private static class CachedTemplate {
+        private final ConfigSnapshot snapshot;
+        private final UiAutomator2Options options;
+
+        private CachedTemplate(ConfigSnapshot snapshot, UiAutomator2Options options) {
+            this.snapshot = snapshot;
+            this.options = options;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package utils.session;
+
+import io.appium.java_client.android.AndroidDriver;
+import utils.ConfigReader;
+import utils.DriverManager;
+import utils.LogCapture;
+import utils.evidence.LogcatCollector;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class SessionPrewarmer {
+
+    private static final int DEFAULT_MAX_IDLE_SESSIONS = 1;
+    private static final long DEFAULT_MAX_IDLE_SECONDS = 240;
+
+    private static final Map<String, Deque<PrewarmedSession>> IDLE_SESSIONS = new HashMap<>();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "session-prewarmer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(SessionPrewarmer::discardAll, "session-prewarmer-shutdown"));
+    }
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("session.prewarm.enabled", false);
+    }
+
+    public static synchronized void prewarm(String deviceName, int slotIndex, boolean pinDevice) {
+        if (!isEnabled()) {
+            return;
+        }
+        Deque<PrewarmedSession> deviceSessions = IDLE_SESSIONS.computeIfAbsent(deviceName, key -> new ArrayDeque<>());
+        if (deviceSessions.size() >= ConfigReader.getLong("session.prewarm.max.idle", DEFAULT_MAX_IDLE_SESSIONS)) {
+            return;
+        }
+
+        System.out.println("Pre-warming next Appium session for " + deviceName + "...");
+        ByteArrayOutputStream logBuffer = new ByteArrayOutputStream();
+        CompletableFuture<AndroidDriver> driverFuture = CompletableFuture.supplyAsync(() -> {
+            LogCapture.attach(logBuffer);
+            try {
+                return DriverManager.createDriver(deviceName, slotIndex, pinDevice);
+            } finally {
+                LogCapture.detach();
+            }
+        }, EXECUTOR);
+        deviceSessions.addLast(new PrewarmedSession(driverFuture, logBuffer, System.nanoTime()));
+    }
+
+    public static AndroidDriver take(String deviceName) {
+        PrewarmedSession session;
+        synchronized (SessionPrewarmer.class) {
+            Deque<PrewarmedSession> deviceSessions = IDLE_SESSIONS.get(deviceName);
+            session = deviceSessions != null ? deviceSessions.pollFirst() : null;
+        }
+        if (session == null) {
+            return null;
+        }
+
+        try {
+            AndroidDriver driver = session.driverFuture.join();
+            LogCapture.append(session.logBuffer);
+            long idleSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - session.requestedNanos);
+            if (idleSeconds > ConfigReader.getLong("session.prewarm.max.idle.seconds", DEFAULT_MAX_IDLE_SECONDS)) {
+                System.out.println("Pre-warmed session for " + deviceName + " idled for " + idleSeconds + "s. Discarding it.");
+                quietlyQuit(driver);
+                return null;
+            }
+            return driver;
+        } catch (Exception e) {
+            LogCapture.append(session.logBuffer);
+            System.err.println("Pre-warmed session for " + deviceName + " could not be created: " + e.getMessage());
+            return null;
+        }
+    }
+
+    public static void discardAll() {
+        List<PrewarmedSession> sessions = new ArrayList<>();
+        synchronized (SessionPrewarmer.class) {
+            IDLE_SESSIONS.values().forEach(sessions::addAll);
+            IDLE_SESSIONS.clear();
+        }
+        for (PrewarmedSession session : sessions) {
+            session.driverFuture.thenAccept(SessionPrewarmer::quietlyQuit);
+            try {
+                session.driverFuture.get(30, TimeUnit.SECONDS);
+            } catch (Exception ignored) {
+                session.driverFuture.cancel(true);
+            }
+        }
+    }
+
+    private static void quietlyQuit(AndroidDriver driver) {
+        try {
+            LogcatCollector.stop(driver);
+            driver.quit();
+        } catch (Exception e) {
+            System.err.println("Error closing pre-warmed session: " + e.getMessage());
+        }
+    }
+
+    private static class PrewarmedSession {
+        private final CompletableFuture<AndroidDriver> driverFuture;
+        private final ByteArrayOutputStream logBuffer;
+        private final long requestedNanos;
+
+        private PrewarmedSession(CompletableFuture<AndroidDriver> driverFuture, ByteArrayOutputStream logBuffer, long requestedNanos) {
+            this.driverFuture = driverFuture;
+            this.logBuffer = logBuffer;
+            this.requestedNanos = requestedNanos;
+        }
+    }
+}
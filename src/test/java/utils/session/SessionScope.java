@@ -0,0 +1,131 @@
+package utils.session;
+
+import utils.ConfigReader;
+import utils.DriverManager;
+import utils.LogCapture;
+import utils.evidence.EvidenceRecorder;
+import utils.parallel.DeviceContext;
+import utils.report.TestReporter;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class SessionScope implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final CompletionService<Object> completionService = new ExecutorCompletionService<>(executor);
+    private final List<Future<Object>> forks = new ArrayList<>();
+    private final List<String> forkedDevices = new ArrayList<>();
+    private final TestReporter reporter;
+    private final EvidenceRecorder evidenceRecorder;
+    private final ByteArrayOutputStream logBuffer;
+
+    private SessionScope(TestReporter reporter, EvidenceRecorder evidenceRecorder, ByteArrayOutputStream logBuffer) {
+        this.reporter = reporter;
+        this.evidenceRecorder = evidenceRecorder;
+        this.logBuffer = logBuffer;
+    }
+
+    public static SessionScope open() {
+        TestReporter reporter = DriverManager.getReporter();
+        if (reporter == null) {
+            throw new IllegalStateException("No TestReporter bound to the current thread. Open a SessionScope from inside a test managed by HooksManager.");
+        }
+        return new SessionScope(reporter, DriverManager.getEvidenceRecorder(), LogCapture.getCurrentBuffer());
+    }
+
+    public <T> Future<T> fork(String deviceName, Callable<T> task) {
+        return fork(deviceName, getSlotIndex(deviceName), task);
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized <T> Future<T> fork(String deviceName, int slotIndex, Callable<T> task) {
+        if (forkedDevices.contains(deviceName)) {
+            throw new IllegalArgumentException("Device " + deviceName + " already has a session in this scope.");
+        }
+        forkedDevices.add(deviceName);
+        Future<Object> future = completionService.submit(() -> runInSession(deviceName, slotIndex, task));
+        forks.add(future);
+        return (Future<T>) future;
+    }
+
+    public void join() throws InterruptedException {
+        int forkCount;
+        synchronized (this) {
+            forkCount = forks.size();
+        }
+        for (int completed = 0; completed < forkCount; completed++) {
+            Future<Object> finished = completionService.take();
+            if (finished.isCancelled()) {
+                continue;
+            }
+            try {
+                finished.get();
+            } catch (ExecutionException e) {
+                cancelAll();
+                Throwable cause = e.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new RuntimeException("Session task failed: " + cause.getMessage(), cause);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        executor.close();
+    }
+
+    private synchronized void cancelAll() {
+        for (Future<Object> fork : forks) {
+            if (!fork.isDone()) {
+                fork.cancel(true);
+            }
+        }
+    }
+
+    private Object runInSession(String deviceName, int slotIndex, Callable<?> task) throws Exception {
+        DeviceContext.bind(deviceName, slotIndex);
+        LogCapture.attach(logBuffer);
+        try {
+            System.out.println("Starting session on " + deviceName + " (slot " + slotIndex + ")...");
+            DriverManager.initializeDriver(reporter);
+            DriverManager.setEvidenceRecorder(evidenceRecorder);
+            return task.call();
+        } finally {
+            boolean interrupted = Thread.interrupted();
+            try {
+                DriverManager.quitDriver();
+            } catch (Exception e) {
+                System.err.println("Error closing session on " + deviceName + ": " + e.getMessage());
+            }
+            LogCapture.detach();
+            DeviceContext.clear();
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static int getSlotIndex(String deviceName) {
+        List<String> devices = ConfigReader.getList("devices");
+        int slotIndex = devices.indexOf(deviceName);
+        if (slotIndex < 0) {
+            throw new IllegalArgumentException("Device " + deviceName + " is not listed in the 'devices' property: " + devices);
+        }
+        return slotIndex;
+    }
+}
@@ -0,0 +1,137 @@
+package utils.session;
+
+import io.appium.java_client.android.AndroidDriver;
+import utils.ConfigReader;
+import utils.DriverManager;
+import utils.LogCapture;
+import utils.evidence.LogcatCollector;
+import utils.parallel.DeviceContext;
+import utils.report.PdfReporter;
+import utils.report.ReportFormat;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class StartupPipeline {
+
+    private static final String GIT_USER_NAME_CONFIG_KEY = "user.name";
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "startup-pipeline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static CompletableFuture<String> responsible;
+    private static CompletableFuture<Void> reportWarmUp;
+
+    public static boolean isEnabled() {
+        return ConfigReader.getBoolean("startup.pipeline.enabled", true);
+    }
+
+    public static synchronized void warmUp() {
+        if (responsible == null) {
+            responsible = isEnabled()
+                    ? CompletableFuture.supplyAsync(StartupPipeline::resolveResponsible, EXECUTOR)
+                    : CompletableFuture.completedFuture(resolveResponsible());
+        }
+        if (reportWarmUp == null && isEnabled() && ReportFormat.fromConfig(ConfigReader.getProperty("report.format")) == ReportFormat.PDF) {
+            reportWarmUp = CompletableFuture.runAsync(PdfReporter::warmUp, EXECUTOR);
+        }
+    }
+
+    public static String getResponsible() {
+        CompletableFuture<String> pendingResponsible;
+        synchronized (StartupPipeline.class) {
+            if (responsible == null) {
+                warmUp();
+            }
+            pendingResponsible = responsible;
+        }
+        return pendingResponsible.join();
+    }
+
+    public static CompletableFuture<AndroidDriver> openSession() {
+        String deviceName = DeviceContext.getDeviceName();
+        int slotIndex = DeviceContext.getSlotIndex();
+        boolean pinDevice = DeviceContext.isBound();
+
+        if (!isEnabled()) {
+            try {
+                return CompletableFuture.completedFuture(DriverManager.acquireDriver(deviceName, slotIndex, pinDevice));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        ByteArrayOutputStream logBuffer = LogCapture.getCurrentBuffer();
+        return CompletableFuture.supplyAsync(() -> {
+            if (pinDevice) {
+                DeviceContext.bind(deviceName, slotIndex);
+            }
+            LogCapture.attach(logBuffer);
+            try {
+                return DriverManager.acquireDriver(deviceName, slotIndex, pinDevice);
+            } finally {
+                LogCapture.detach();
+                DeviceContext.clear();
+            }
+        }, EXECUTOR);
+    }
+
+    public static void discard(CompletableFuture<AndroidDriver> pendingSession) {
+        if (pendingSession == null) {
+            return;
+        }
+        pendingSession.thenAccept(driver -> {
+            try {
+                LogcatCollector.stop(driver);
+                driver.quit();
+            } catch (Exception e) {
+                System.err.println("Error closing unused Appium session: " + e.getMessage());
+            }
+        });
+    }
+
+    private static String resolveResponsible() {
+        String gitUserName = getGitConfig();
+        if (gitUserName != null && !gitUserName.isEmpty()) {
+            return gitUserName.toUpperCase();
+        }
+        String systemUserName = System.getProperty("user.name");
+        System.err.println("Could not get Git user.name. Falling back to system user.name: " + (systemUserName != null ? systemUserName : "N/A"));
+        return systemUserName != null ? systemUserName.toUpperCase() : "N/A";
+    }
+
+    private static String getGitConfig() {
+        try {
+            ProcessBuilder processBuilder = new ProcessBuilder("git", "config", GIT_USER_NAME_CONFIG_KEY);
+            processBuilder.redirectErrorStream(true);
+            Process process = processBuilder.start();
+
+            BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+            StringBuilder output = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.append(line);
+            }
+
+            int exitCode = process.waitFor();
+            if (exitCode == 0) {
+                return output.toString().trim();
+            } else {
+                System.err.println("Git command 'git config " + GIT_USER_NAME_CONFIG_KEY + "' failed with exit code: " + exitCode);
+                System.err.println("Git command output: " + output);
+                return null;
+            }
+        } catch (IOException | InterruptedException e) {
+            System.err.println("Error executing git command 'git config " + GIT_USER_NAME_CONFIG_KEY + "': " + e.getMessage());
+            return null;
+        }
+    }
+}
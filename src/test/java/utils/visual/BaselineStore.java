@@ -0,0 +1,91 @@
+package utils.visual;
+
+import utils.ConfigReader;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class BaselineStore {
+
+    private static final String CLASSPATH_DIRECTORY = "baselines/";
+    private static final Map<String, Baseline> CACHE = new ConcurrentHashMap<>();
+
+    public static Baseline load(String baselineName) throws IOException {
+        Baseline cached = CACHE.get(baselineName);
+        if (cached != null) {
+            return cached;
+        }
+
+        BufferedImage image = null;
+        try (InputStream input = BaselineStore.class.getClassLoader().getResourceAsStream(CLASSPATH_DIRECTORY + baselineName + ".png")) {
+            if (input != null) {
+                image = ImageIO.read(input);
+            }
+        }
+        if (image == null) {
+            Path sourcePath = getSourcePath(baselineName);
+            if (Files.isRegularFile(sourcePath)) {
+                image = ImageIO.read(sourcePath.toFile());
+            }
+        }
+        if (image == null) {
+            return null;
+        }
+
+        Baseline baseline = new Baseline(image.getWidth(), image.getHeight(), PixelDiff.toRgbPixels(image));
+        CACHE.put(baselineName, baseline);
+        return baseline;
+    }
+
+    public static Path save(String baselineName, byte[] screenshotBytes) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(screenshotBytes));
+        if (image == null) {
+            throw new IOException("Screenshot for baseline '" + baselineName + "' could not be decoded");
+        }
+        Path sourcePath = getSourcePath(baselineName);
+        Files.createDirectories(sourcePath.getParent());
+        ImageIO.write(image, "png", sourcePath.toFile());
+        CACHE.remove(baselineName);
+        return sourcePath;
+    }
+
+    public static boolean isUpdateMode() {
+        return ConfigReader.evidence().isBaselineUpdate();
+    }
+
+    private static Path getSourcePath(String baselineName) {
+        return Paths.get(ConfigReader.evidence().getBaselineDirectory(), baselineName + ".png");
+    }
+
+    public static class Baseline {
+        private final int width;
+        private final int height;
+        private final int[] pixels;
+
+        private Baseline(int width, int height, int[] pixels) {
+            this.width = width;
+            this.height = height;
+            this.pixels = pixels;
+        }
+
+        public int getWidth() {
+            return width;
+        }
+
+        public int getHeight() {
+            return height;
+        }
+
+        public int[] getPixels() {
+            return pixels;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package utils.visual;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.Arrays;
+import java.util.List;
+
+public class PixelDiff {
+
+    private static final int DIFF_COLOR = 0xFFFF0000;
+
+    public static int[] toRgbPixels(BufferedImage image) {
+        BufferedImage rgbImage = image;
+        if (image.getType() != BufferedImage.TYPE_INT_RGB && image.getType() != BufferedImage.TYPE_INT_ARGB) {
+            rgbImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            rgbImage.getGraphics().drawImage(image, 0, 0, null);
+        }
+        int[] pixels = ((DataBufferInt) rgbImage.getRaster().getDataBuffer()).getData();
+        int[] rgbPixels = Arrays.copyOf(pixels, pixels.length);
+        for (int i = 0; i < rgbPixels.length; i++) {
+            rgbPixels[i] &= 0x00FFFFFF;
+        }
+        return rgbPixels;
+    }
+
+    public static int[] resize(int[] pixels, int width, int height, int targetWidth, int targetHeight) {
+        int[] resized = new int[targetWidth * targetHeight];
+        for (int y = 0; y < targetHeight; y++) {
+            int sourceRow = (int) ((long) y * height / targetHeight) * width;
+            int targetRow = y * targetWidth;
+            for (int x = 0; x < targetWidth; x++) {
+                resized[targetRow + x] = pixels[sourceRow + (int) ((long) x * width / targetWidth)];
+            }
+        }
+        return resized;
+    }
+
+    public static DiffResult compare(int[] actual, int[] baseline, int width, int height, List<Rectangle> masks, int channelTolerance) {
+        if (actual.length != baseline.length || actual.length != width * height) {
+            throw new IllegalArgumentException("Images must have the same dimensions: " + width + "x" + height);
+        }
+        int[] maskedActual = actual;
+        int[] maskedBaseline = baseline;
+        int maskedPixels = 0;
+        if (!masks.isEmpty()) {
+            maskedActual = Arrays.copyOf(actual, actual.length);
+            maskedBaseline = Arrays.copyOf(baseline, baseline.length);
+            maskedPixels = applyMasks(maskedActual, maskedBaseline, width, height, masks);
+        }
+
+        int mismatchedPixels = 0;
+        for (int i = 0; i < maskedActual.length; i++) {
+            mismatchedPixels += mismatch(maskedActual[i], maskedBaseline[i], channelTolerance);
+        }
+        return new DiffResult(width, height, mismatchedPixels, width * height - maskedPixels, maskedActual, maskedBaseline, channelTolerance);
+    }
+
+    private static int mismatch(int actualPixel, int baselinePixel, int channelTolerance) {
+        int redDelta = Math.abs(((actualPixel >> 16) & 0xFF) - ((baselinePixel >> 16) & 0xFF));
+        int greenDelta = Math.abs(((actualPixel >> 8) & 0xFF) - ((baselinePixel >> 8) & 0xFF));
+        int blueDelta = Math.abs((actualPixel & 0xFF) - (baselinePixel & 0xFF));
+        return (channelTolerance - Math.max(redDelta, Math.max(greenDelta, blueDelta))) >>> 31;
+    }
+
+    private static int applyMasks(int[] actual, int[] baseline, int width, int height, List<Rectangle> masks) {
+        int maskedPixels = 0;
+        for (Rectangle mask : masks) {
+            Rectangle clipped = mask.intersection(new Rectangle(0, 0, width, height));
+            if (clipped.isEmpty()) {
+                continue;
+            }
+            for (int y = clipped.y; y < clipped.y + clipped.height; y++) {
+                int from = y * width + clipped.x;
+                int to = from + clipped.width;
+                for (int i = from; i < to; i++) {
+                    if (actual[i] != -1) {
+                        maskedPixels++;
+                    }
+                }
+                Arrays.fill(actual, from, to, -1);
+                Arrays.fill(baseline, from, to, -1);
+            }
+        }
+        return maskedPixels;
+    }
+
+    public static class DiffResult {
+        private final int width;
+        private final int height;
+        private final int mismatchedPixels;
+        private final int comparedPixels;
+        private final int[] actual;
+        private final int[] baseline;
+        private final int channelTolerance;
+
+        private DiffResult(int width, int height, int mismatchedPixels, int comparedPixels, int[] actual, int[] baseline, int channelTolerance) {
+            this.width = width;
+            this.height = height;
+            this.mismatchedPixels = mismatchedPixels;
+            this.comparedPixels = comparedPixels;
+            this.actual = actual;
+            this.baseline = baseline;
+            this.channelTolerance = channelTolerance;
+        }
+
+        public int getMismatchedPixels() {
+            return mismatchedPixels;
+        }
+
+        public double getMismatchRatio() {
+            return comparedPixels > 0 ? (double) mismatchedPixels / comparedPixels : 0;
+        }
+
+        public BufferedImage toDiffImage() {
+            BufferedImage diffImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            int[] diffPixels = ((DataBufferInt) diffImage.getRaster().getDataBuffer()).getData();
+            for (int i = 0; i < diffPixels.length; i++) {
+                diffPixels[i] = mismatch(actual[i], baseline[i], channelTolerance) == 0 ? actual[i] : DIFF_COLOR;
+            }
+            return diffImage;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package utils.visual;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PixelDiffTest {
+
+    private static final int WIDTH = 4;
+    private static final int HEIGHT = 4;
+
+    @Test
+    void identicalImagesHaveNoMismatch() {
+        int[] pixels = filled(0x336699);
+
+        PixelDiff.DiffResult result = PixelDiff.compare(pixels, pixels.clone(), WIDTH, HEIGHT, List.of(), 0);
+
+        assertEquals(0, result.getMismatchedPixels());
+        assertEquals(0.0, result.getMismatchRatio());
+    }
+
+    @Test
+    void channelDeltaWithinToleranceIsIgnored() {
+        int[] baseline = filled(0x808080);
+        int[] actual = filled(0x808080);
+        actual[0] = 0x858080;
+        actual[1] = 0x808086;
+
+        PixelDiff.DiffResult result = PixelDiff.compare(actual, baseline, WIDTH, HEIGHT, List.of(), 5);
+
+        assertEquals(1, result.getMismatchedPixels());
+        assertEquals(1.0 / 16, result.getMismatchRatio());
+    }
+
+    @Test
+    void maskedRegionIsExcludedFromMismatchesAndRatio() {
+        int[] baseline = filled(0x000000);
+        int[] actual = filled(0x000000);
+        actual[0] = 0xFFFFFF;
+        actual[1] = 0xFFFFFF;
+        actual[15] = 0xFFFFFF;
+
+        PixelDiff.DiffResult result = PixelDiff.compare(actual, baseline, WIDTH, HEIGHT, List.of(new Rectangle(0, 0, 2, 2)), 0);
+
+        assertEquals(1, result.getMismatchedPixels());
+        assertEquals(1.0 / 12, result.getMismatchRatio());
+        assertEquals(0xFFFFFF, actual[0]);
+    }
+
+    @Test
+    void overlappingAndOutOfBoundsMasksAreCountedOnce() {
+        int[] baseline = filled(0x000000);
+        int[] actual = filled(0x000000);
+        actual[15] = 0xFFFFFF;
+        List<Rectangle> masks = List.of(new Rectangle(0, 0, 2, 2), new Rectangle(1, 1, 2, 2), new Rectangle(10, 10, 5, 5));
+
+        PixelDiff.DiffResult result = PixelDiff.compare(actual, baseline, WIDTH, HEIGHT, masks, 0);
+
+        assertEquals(1.0 / 9, result.getMismatchRatio());
+    }
+
+    @Test
+    void fullyMaskedImageHasZeroRatio() {
+        int[] baseline = filled(0x000000);
+        int[] actual = filled(0xFFFFFF);
+
+        PixelDiff.DiffResult result = PixelDiff.compare(actual, baseline, WIDTH, HEIGHT, List.of(new Rectangle(-1, -1, 10, 10)), 0);
+
+        assertEquals(0, result.getMismatchedPixels());
+        assertEquals(0.0, result.getMismatchRatio());
+    }
+
+    @Test
+    void diffImageHighlightsMismatchedPixels() {
+        int[] baseline = filled(0x000000);
+        int[] actual = filled(0x000000);
+        actual[5] = 0x00FF00;
+
+        BufferedImage diffImage = PixelDiff.compare(actual, baseline, WIDTH, HEIGHT, List.of(), 0).toDiffImage();
+
+        assertEquals(0xFF0000, diffImage.getRGB(1, 1) & 0xFFFFFF);
+        assertEquals(0x000000, diffImage.getRGB(0, 0) & 0xFFFFFF);
+    }
+
+    @Test
+    void rejectsMismatchedDimensions() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PixelDiff.compare(new int[16], new int[12], WIDTH, HEIGHT, List.of(), 0));
+    }
+
+    @Test
+    void toRgbPixelsDropsAlphaAndConvertsOtherImageTypes() {
+        BufferedImage argbImage = new BufferedImage(2, 1, BufferedImage.TYPE_INT_ARGB);
+        argbImage.setRGB(0, 0, 0x80123456);
+        argbImage.setRGB(1, 0, 0xFFABCDEF);
+        BufferedImage byteImage = new BufferedImage(2, 1, BufferedImage.TYPE_3BYTE_BGR);
+        byteImage.setRGB(0, 0, 0x123456);
+        byteImage.setRGB(1, 0, 0xABCDEF);
+
+        assertArrayEquals(new int[]{0x123456, 0xABCDEF}, PixelDiff.toRgbPixels(argbImage));
+        assertArrayEquals(new int[]{0x123456, 0xABCDEF}, PixelDiff.toRgbPixels(byteImage));
+    }
+
+    @Test
+    void resizeUsesNearestNeighbourSampling() {
+        int[] pixels = {1, 2, 3, 4};
+
+        assertArrayEquals(new int[]{1, 1, 2, 2, 1, 1, 2, 2, 3, 3, 4, 4, 3, 3, 4, 4}, PixelDiff.resize(pixels, 2, 2, 4, 4));
+        assertArrayEquals(new int[]{1}, PixelDiff.resize(pixels, 2, 2, 1, 1));
+    }
+
+    private static int[] filled(int rgb) {
+        int[] pixels = new int[WIDTH * HEIGHT];
+        Arrays.fill(pixels, rgb);
+        return pixels;
+    }
+}